@@ -0,0 +1,33 @@
+package org.example.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do benchmarks.jar. Aceita as mesmas opções do JMH
+ * ({@code -p}, {@code -f}, {@code -rf}, {@code -rff}, filtros por nome...), mas, se
+ * nada for informado, grava o resultado em JSON em {@code target/jmh-result.json}
+ * para que as execuções possam ser comparadas entre builds.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListWithParams()
+                || cmd.shouldListProfilers() || cmd.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ResultFormatType formato = cmd.getResultFormat().orElse(ResultFormatType.JSON);
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(cmd).resultFormat(formato);
+        if (!cmd.getResult().hasValue()) {
+            opcoes.result("target/jmh-result." + formato.name().toLowerCase());
+        }
+        new Runner(opcoes.build()).run();
+    }
+}
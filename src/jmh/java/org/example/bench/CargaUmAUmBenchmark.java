@@ -0,0 +1,48 @@
+package org.example.bench;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.example.GenericLinkedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga da {@link GenericLinkedList} chamando {@code adicionar} por elemento, como
+ * referência para o {@code carregar} (via {@code adicionarTodos}) de
+ * {@link GenericLinkedListBenchmark}. Fica em uma classe própria porque, na lista
+ * ordenada sem índice, cada inserção percorre a lista e a carga é O(n²): os tamanhos
+ * vão só até 100k, e com menos iterações e um fork só, para que
+ * {@code java -jar target/benchmarks.jar} termine (100k na lista ordenada já leva
+ * cerca de 2 minutos por carga).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CargaUmAUmBenchmark {
+    @Param({"1000", "10000", "100000"})
+    int tamanho;
+
+    @Param({"ORDENADA", "ORDENADA_INDEXADA", "NAO_ORDENADA", "NAO_ORDENADA_HASH"})
+    GenericLinkedListBenchmark.Modo modo;
+
+    final Comparator<Aluno> comparator = AlunoComparators.porMatricula();
+
+    Aluno[] dados;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = Dados.gerar(tamanho);
+    }
+
+    @Benchmark
+    public GenericLinkedList<Aluno> carregarUmAUm() {
+        GenericLinkedList<Aluno> l = modo.nova(comparator);
+        for (Aluno a : dados) l.adicionar(a);
+        return l;
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.bench;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.example.ConcurrentGenericLinkedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vazão com várias threads sobre uma única lista ordenada compartilhada:
+ * {@link ConcurrentGenericLinkedList} contra {@code Collections.synchronizedList}
+ * (ArrayList ordenada, busca binária sob o lock) e {@link ConcurrentSkipListSet}.
+ *
+ * {@code misto}: 3 threads pesquisando e 1 adicionando e removendo (o tamanho se
+ * mantém estável). {@code leitura}: só buscas, com 4 threads. As chaves escritas
+ * são do tipo "123-7" (matrícula existente + '-' + id da thread), que caem em
+ * posições aleatórias da ordem lexicográfica sem colidir com as existentes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+
+    @Param({"ConcurrentGenericLinkedList", "SynchronizedList", "ConcurrentSkipListSet"})
+    String estrutura;
+
+    @Param({"1000", "10000"})
+    int tamanho;
+
+    final Comparator<Aluno> comparator = AlunoComparators.porMatricula();
+
+    Aluno[] chaves;
+    Alvo alvo;
+
+    /** Operações medidas, sobre qualquer das três estruturas. */
+    interface Alvo {
+        Aluno pesquisar(Aluno chave);
+        void adicionar(Aluno a);
+        Aluno remover(Aluno chave);
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Aluno[] dados = Dados.gerar(tamanho);
+        chaves = new Aluno[tamanho];
+        for (int i = 0; i < tamanho; i++) chaves[i] = Dados.chave(dados[i]);
+        alvo = switch (estrutura) {
+            case "ConcurrentGenericLinkedList" -> listaConcorrente(dados);
+            case "SynchronizedList" -> listaSincronizada(dados);
+            case "ConcurrentSkipListSet" -> skipList(dados);
+            default -> throw new IllegalArgumentException(estrutura);
+        };
+    }
+
+    private Alvo listaConcorrente(Aluno[] dados) {
+        ConcurrentGenericLinkedList<Aluno> l = new ConcurrentGenericLinkedList<>(true, comparator);
+        l.adicionarTodos(Arrays.asList(Dados.ordenados(dados, comparator)));
+        return new Alvo() {
+            public Aluno pesquisar(Aluno chave) { return l.pesquisar(chave); }
+            public void adicionar(Aluno a) { l.adicionar(a); }
+            public Aluno remover(Aluno chave) { return l.remover(chave); }
+        };
+    }
+
+    private Alvo listaSincronizada(Aluno[] dados) {
+        List<Aluno> l = Collections.synchronizedList(new ArrayList<>(Arrays.asList(Dados.ordenados(dados, comparator))));
+        return new Alvo() {
+            public Aluno pesquisar(Aluno chave) {
+                synchronized (l) {
+                    int i = Collections.binarySearch(l, chave, comparator);
+                    return i >= 0 ? l.get(i) : null;
+                }
+            }
+            public void adicionar(Aluno a) {
+                synchronized (l) {
+                    int i = Collections.binarySearch(l, a, comparator);
+                    l.add(i >= 0 ? i : -(i + 1), a);
+                }
+            }
+            public Aluno remover(Aluno chave) {
+                synchronized (l) {
+                    int i = Collections.binarySearch(l, chave, comparator);
+                    return i >= 0 ? l.remove(i) : null;
+                }
+            }
+        };
+    }
+
+    private Alvo skipList(Aluno[] dados) {
+        ConcurrentSkipListSet<Aluno> s = new ConcurrentSkipListSet<>(comparator);
+        s.addAll(Arrays.asList(dados));
+        return new Alvo() {
+            public Aluno pesquisar(Aluno chave) {
+                Aluno a = s.ceiling(chave);
+                return a != null && comparator.compare(a, chave) == 0 ? a : null;
+            }
+            public void adicionar(Aluno a) { s.add(a); }
+            public Aluno remover(Aluno chave) {
+                Aluno a = pesquisar(chave);
+                return a != null && s.remove(a) ? a : null;
+            }
+        };
+    }
+
+    private static final AtomicInteger PROXIMO_ID = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Escritor {
+        final String sufixo = "-" + PROXIMO_ID.incrementAndGet();
+    }
+
+    private Aluno chaveAleatoria() {
+        return chaves[ThreadLocalRandom.current().nextInt(chaves.length)];
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(3)
+    public Aluno mistoPesquisar() {
+        return alvo.pesquisar(chaveAleatoria());
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(1)
+    public Aluno mistoAdicionarRemover(Escritor e) {
+        Aluno novo = new Aluno(chaveAleatoria().getMatricula() + e.sufixo, "Novo");
+        alvo.adicionar(novo);
+        return alvo.remover(novo);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Aluno leitura() {
+        return alvo.pesquisar(chaveAleatoria());
+    }
+}
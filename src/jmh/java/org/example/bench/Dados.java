@@ -0,0 +1,54 @@
+package org.example.bench;
+
+import org.example.Aluno;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Geração dos dados usados pelos benchmarks. Semente fixa para que todas as
+ * estruturas (e todas as execuções) trabalhem sobre a mesma sequência de alunos.
+ */
+final class Dados {
+    static final long SEMENTE = 42L;
+
+    private Dados() {}
+
+    /** Alunos com matrículas 1..n em ordem embaralhada (como chegariam de uma fonte sem ordem). */
+    static Aluno[] gerar(int n) {
+        List<Aluno> alunos = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            alunos.add(new Aluno(String.valueOf(i), "Aluno " + i));
+        }
+        Collections.shuffle(alunos, new Random(SEMENTE));
+        return alunos.toArray(new Aluno[0]);
+    }
+
+    static Aluno[] ordenados(Aluno[] dados, Comparator<? super Aluno> comparator) {
+        Aluno[] copia = dados.clone();
+        Arrays.sort(copia, comparator);
+        return copia;
+    }
+
+    /** Índices distintos e aleatórios em [0, n) para as remoções de um lote. */
+    static int[] indicesAleatorios(int n, int quantidade) {
+        Random random = new Random(SEMENTE);
+        int k = Math.min(n, quantidade);
+        int[] todos = new int[n];
+        for (int i = 0; i < n; i++) todos[i] = i;
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int tmp = todos[i]; todos[i] = todos[j]; todos[j] = tmp;
+        }
+        return Arrays.copyOf(todos, k);
+    }
+
+    /** Chave nova com a mesma matrícula: as buscas passam pelo Comparator, não pela identidade. */
+    static Aluno chave(Aluno a) {
+        return new Aluno(a.getMatricula(), "—");
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.bench;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.example.ConcurrentGenericLinkedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de estresse da {@link ConcurrentGenericLinkedList}, nos dois modos:
+ * <ol>
+ *   <li>cada thread adiciona e remove as suas próprias matrículas enquanto pesquisa
+ *       as das outras; no fim, o conteúdo deve ser exatamente o esperado (e em ordem,
+ *       na lista ordenada);</li>
+ *   <li>todas as threads tentam remover os mesmos elementos: cada um deve ser
+ *       devolvido a exatamente uma thread.</li>
+ * </ol>
+ * Uso: {@code java -cp target/benchmarks.jar org.example.bench.EstresseListaConcorrente [threads] [porThread]}.
+ * Termina com código 1 se alguma verificação falhar.
+ */
+public final class EstresseListaConcorrente {
+    private static final Comparator<Aluno> COMPARATOR = AlunoComparators.porMatricula();
+
+    private EstresseListaConcorrente() {}
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 2;
+        int porThread = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        boolean ok = true;
+        for (boolean ordenada : new boolean[]{true, false}) {
+            ok &= particionado(ordenada, threads, porThread);
+            ok &= disputado(ordenada, threads, porThread);
+        }
+        System.out.println(ok ? "OK" : "FALHA");
+        if (!ok) System.exit(1);
+    }
+
+    private static String matricula(int thread, int i) {
+        return String.format("%03d%06d", thread, i);
+    }
+
+    /** Threads com matrículas disjuntas: adiciona todas, remove as ímpares, pesquisa as alheias. */
+    private static boolean particionado(boolean ordenada, int threads, int porThread) throws Exception {
+        ConcurrentGenericLinkedList<Aluno> lista = new ConcurrentGenericLinkedList<>(ordenada, COMPARATOR);
+        AtomicLong encontradas = new AtomicLong();
+        long ini = System.nanoTime();
+        executar(threads, t -> {
+            for (int i = 0; i < porThread; i++) {
+                lista.adicionar(new Aluno(matricula(t, i), "T" + t));
+                Aluno outra = new Aluno(matricula((t + 1) % threads, i), "?");
+                if (lista.pesquisar(outra) != null) encontradas.incrementAndGet();
+            }
+            for (int i = 1; i < porThread; i += 2) {
+                if (lista.remover(new Aluno(matricula(t, i), "?")) == null) {
+                    throw new IllegalStateException("remoção de elemento próprio falhou: " + matricula(t, i));
+                }
+            }
+        });
+        double ms = (System.nanoTime() - ini) / 1e6;
+
+        TreeSet<String> esperado = new TreeSet<>();
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < porThread; i += 2) esperado.add(matricula(t, i));
+        }
+        List<String> obtido = new ArrayList<>();
+        for (Aluno a : lista) obtido.add(a.getMatricula());
+
+        boolean ok = lista.tamanho() == esperado.size()
+                && (ordenada ? obtido.equals(new ArrayList<>(esperado)) : new TreeSet<>(obtido).equals(esperado)
+                        && obtido.size() == esperado.size());
+        System.out.printf("%s particionado: %d threads x %d, %.1f ms, %d buscas positivas, tamanho %d/%d -> %s%n",
+                ordenada ? "ordenada" : "não ordenada", threads, porThread, ms, encontradas.get(),
+                lista.tamanho(), esperado.size(), ok ? "ok" : "ERRO");
+        return ok;
+    }
+
+    /** Todas as threads removem os mesmos elementos; cada remoção deve ter um único vencedor. */
+    private static boolean disputado(boolean ordenada, int threads, int quantidade) throws Exception {
+        ConcurrentGenericLinkedList<Aluno> lista = new ConcurrentGenericLinkedList<>(ordenada, COMPARATOR);
+        for (int i = 0; i < quantidade; i++) lista.adicionar(new Aluno(matricula(0, i), "x"));
+        AtomicInteger[] vencedores = new AtomicInteger[quantidade];
+        for (int i = 0; i < quantidade; i++) vencedores[i] = new AtomicInteger();
+
+        executar(threads, t -> {
+            for (int k = 0; k < quantidade; k++) {
+                int i = (k + t * 7919) % quantidade; // ordens diferentes por thread
+                if (lista.remover(new Aluno(matricula(0, i), "?")) != null) vencedores[i].incrementAndGet();
+            }
+        });
+
+        boolean ok = lista.tamanho() == 0 && !lista.iterator().hasNext();
+        for (AtomicInteger v : vencedores) ok &= v.get() == 1;
+        System.out.printf("%s disputado: %d threads, %d elementos -> %s%n",
+                ordenada ? "ordenada" : "não ordenada", threads, quantidade, ok ? "ok" : "ERRO");
+        return ok;
+    }
+
+    private interface Tarefa {
+        void executar(int thread) throws Exception;
+    }
+
+    /** Dispara as threads juntas (latch) e propaga a primeira exceção. */
+    private static void executar(int threads, Tarefa tarefa) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    tarefa.executar(id);
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> f : futuros) f.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.bench;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.example.GenericLinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga, inserções (início/meio/fim), buscas e remoções na {@link GenericLinkedList},
+ * nos modos ordenado (com e sem índice skip list) e não ordenado (com e sem índice hash).
+ *
+ * Buscas são medidas em regime estacionário (AverageTime) sobre uma lista montada
+ * uma vez por trial. Operações que alteram a lista são medidas em lotes de
+ * {@link #LOTE} chamadas (SingleShotTime), com a lista reconstruída antes de cada
+ * iteração, para não acumular elementos nem medir o custo de desfazer a operação.
+ *
+ * {@code carregar} usa {@code adicionarTodos}, como {@code Main.popularLista}; a carga
+ * com um {@code adicionar} por elemento, O(n²) na lista ordenada, fica em
+ * {@link CargaUmAUmBenchmark}, com tamanhos menores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class GenericLinkedListBenchmark {
+    static final int LOTE = 100;
+
+    @Param({"1000", "10000", "100000", "1000000", "2000000"})
+    int tamanho;
+
+    public enum Modo {
+        ORDENADA, ORDENADA_INDEXADA, NAO_ORDENADA, NAO_ORDENADA_HASH;
+
+        GenericLinkedList<Aluno> nova(Comparator<Aluno> comparator) {
+            return switch (this) {
+                case ORDENADA -> new GenericLinkedList<>(true, comparator);
+                case ORDENADA_INDEXADA -> new GenericLinkedList<>(true, comparator, true);
+                case NAO_ORDENADA -> new GenericLinkedList<>(false, comparator);
+                case NAO_ORDENADA_HASH -> new GenericLinkedList<>(comparator, Aluno::getMatricula);
+            };
+        }
+    }
+
+    @Param({"ORDENADA", "ORDENADA_INDEXADA", "NAO_ORDENADA", "NAO_ORDENADA_HASH"})
+    Modo modo;
+
+    boolean ordenada;
+
+    final Comparator<Aluno> comparator = AlunoComparators.porMatricula();
+
+    Aluno[] dados;      // ordem de chegada (embaralhada)
+    Aluno[] ordenados;  // mesmos alunos em ordem crescente de matrícula
+    GenericLinkedList<Aluno> lista;
+
+    Aluno chaveMeio;
+    Aluno chaveUltimo;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        ordenada = modo == Modo.ORDENADA || modo == Modo.ORDENADA_INDEXADA;
+        dados = Dados.gerar(tamanho);
+        ordenados = Dados.ordenados(dados, comparator);
+        lista = montar();
+        Aluno[] ordemDaLista = ordenada ? ordenados : dados;
+        chaveMeio = Dados.chave(ordemDaLista[tamanho / 2]);
+        chaveUltimo = Dados.chave(ordemDaLista[tamanho - 1]);
+    }
+
+    GenericLinkedList<Aluno> nova() {
+        return modo.nova(comparator);
+    }
+
+    /** Monta a lista fora da medição; com os elementos já em ordem a carga é O(n). */
+    GenericLinkedList<Aluno> montar() {
+        GenericLinkedList<Aluno> l = nova();
+        l.adicionarTodos(Arrays.asList(ordenada ? ordenados : dados));
+        return l;
+    }
+
+    /** Lista reconstruída a cada iteração para os benchmarks que a modificam. */
+    @State(Scope.Thread)
+    public static class ListaMutavel {
+        GenericLinkedList<Aluno> lista;
+        Aluno[] remocoes;
+        int proxima;
+
+        @Setup(Level.Iteration)
+        public void reconstruir(GenericLinkedListBenchmark b) {
+            lista = b.montar();
+            int[] indices = Dados.indicesAleatorios(b.tamanho, LOTE);
+            remocoes = new Aluno[indices.length];
+            for (int i = 0; i < indices.length; i++) remocoes[i] = Dados.chave(b.dados[indices[i]]);
+            proxima = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public GenericLinkedList<Aluno> carregar() {
+        GenericLinkedList<Aluno> l = nova();
+        l.adicionarTodos(Arrays.asList(dados));
+        return l;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarInicio(ListaMutavel m) {
+        if (ordenada) {
+            m.lista.adicionar(new Aluno("0", "Novo Inicio")); // "0" < qualquer matrícula 1..n
+        } else {
+            m.lista.adicionarPosicao(0, new Aluno("LKINI", "Novo Inicio"));
+        }
+        return m.lista.tamanho();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarMeio(ListaMutavel m) {
+        if (ordenada) {
+            m.lista.adicionar(new Aluno(chaveMeio.getMatricula(), "Novo Meio"));
+        } else {
+            m.lista.adicionarPosicao(m.lista.tamanho() / 2, new Aluno("LKMEIO", "Novo Meio"));
+        }
+        return m.lista.tamanho();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarFim(ListaMutavel m) {
+        // na lista ordenada, "\uffff" é maior que qualquer matrícula numérica
+        m.lista.adicionar(new Aluno(ordenada ? "\uffff" : "LKFIM", "Novo Fim"));
+        return m.lista.tamanho();
+    }
+
+    /** Percorre a lista inteira por índice: O(n) com o dedo, O(n²) se cada acesso partisse do head. */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public void obterPorIndiceSequencial(Blackhole bh) {
+        for (int i = 0, n = lista.tamanho(); i < n; i++) bh.consume(lista.obterPorIndice(i));
+    }
+
+    @Benchmark
+    public Aluno pesquisarMeio() {
+        return lista.pesquisar(chaveMeio);
+    }
+
+    @Benchmark
+    public Aluno pesquisarUltimo() {
+        return lista.pesquisar(chaveUltimo);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public Aluno remover(ListaMutavel m) {
+        Aluno chave = m.remocoes[m.proxima++ % m.remocoes.length];
+        return m.lista.remover(chave);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.bench;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.example.GenericUnrolledLinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga, buscas, varredura por índice e remoções na {@link GenericUnrolledLinkedList},
+ * com os mesmos dados e convenções de {@link GenericLinkedListBenchmark}, para
+ * comparar diretamente com a lista de um elemento por nó. {@code capacidade} é o
+ * número de elementos por bloco.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class GenericUnrolledLinkedListBenchmark {
+    static final int LOTE = GenericLinkedListBenchmark.LOTE;
+
+    @Param({"1000", "10000", "100000", "1000000", "2000000"})
+    int tamanho;
+
+    @Param({"true", "false"})
+    boolean ordenada;
+
+    @Param({"16", "64", "256"})
+    int capacidade;
+
+    final Comparator<Aluno> comparator = AlunoComparators.porMatricula();
+
+    Aluno[] dados;
+    Aluno[] ordenados;
+    GenericUnrolledLinkedList<Aluno> lista;
+
+    Aluno chaveMeio;
+    Aluno chaveUltimo;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = Dados.gerar(tamanho);
+        ordenados = Dados.ordenados(dados, comparator);
+        lista = montar();
+        Aluno[] ordemDaLista = ordenada ? ordenados : dados;
+        chaveMeio = Dados.chave(ordemDaLista[tamanho / 2]);
+        chaveUltimo = Dados.chave(ordemDaLista[tamanho - 1]);
+    }
+
+    GenericUnrolledLinkedList<Aluno> montar() {
+        GenericUnrolledLinkedList<Aluno> l = new GenericUnrolledLinkedList<>(ordenada, comparator, capacidade);
+        l.adicionarTodos(Arrays.asList(ordenada ? ordenados : dados));
+        return l;
+    }
+
+    @State(Scope.Thread)
+    public static class ListaMutavel {
+        GenericUnrolledLinkedList<Aluno> lista;
+        Aluno[] remocoes;
+        int proxima;
+
+        @Setup(Level.Iteration)
+        public void reconstruir(GenericUnrolledLinkedListBenchmark b) {
+            lista = b.montar();
+            int[] indices = Dados.indicesAleatorios(b.tamanho, LOTE);
+            remocoes = new Aluno[indices.length];
+            for (int i = 0; i < indices.length; i++) remocoes[i] = Dados.chave(b.dados[indices[i]]);
+            proxima = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public GenericUnrolledLinkedList<Aluno> carregar() {
+        GenericUnrolledLinkedList<Aluno> l = new GenericUnrolledLinkedList<>(ordenada, comparator, capacidade);
+        l.adicionarTodos(Arrays.asList(dados));
+        return l;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarMeio(ListaMutavel m) {
+        if (ordenada) {
+            m.lista.adicionar(new Aluno(chaveMeio.getMatricula(), "Novo Meio"));
+        } else {
+            m.lista.adicionarPosicao(m.lista.tamanho() / 2, new Aluno("LKMEIO", "Novo Meio"));
+        }
+        return m.lista.tamanho();
+    }
+
+    /** Percorre a lista inteira pelo iterador. */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public void varrer(Blackhole bh) {
+        for (Aluno a : lista) bh.consume(a);
+    }
+
+    /** Sem dedo: o acesso parte do head ou do tail, mas salta blocos inteiros. */
+    @Benchmark
+    public Aluno obterPorIndiceMeio() {
+        return lista.obterPorIndice(tamanho / 2);
+    }
+
+    @Benchmark
+    public Aluno pesquisarMeio() {
+        return lista.pesquisar(chaveMeio);
+    }
+
+    @Benchmark
+    public Aluno pesquisarUltimo() {
+        return lista.pesquisar(chaveUltimo);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public Aluno remover(ListaMutavel m) {
+        Aluno chave = m.remocoes[m.proxima++ % m.remocoes.length];
+        return m.lista.remover(chave);
+    }
+}
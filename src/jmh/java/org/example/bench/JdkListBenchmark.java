@@ -0,0 +1,185 @@
+package org.example.bench;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * As mesmas operações de {@link GenericLinkedListBenchmark} sobre {@link ArrayList}
+ * e {@link LinkedList}, para comparação direta.
+ *
+ * Com {@code ordenada=true} a lista é mantida em ordem pelo Comparator (carga seguida
+ * de sort, inserção e busca via {@link Collections#binarySearch}); com
+ * {@code ordenada=false} a busca é uma varredura com o Comparator, como na
+ * GenericLinkedList não ordenada — e não {@code indexOf}, que compararia identidade.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class JdkListBenchmark {
+    static final int LOTE = GenericLinkedListBenchmark.LOTE;
+
+    @Param({"ArrayList", "LinkedList"})
+    String estrutura;
+
+    @Param({"1000", "10000", "100000", "1000000", "2000000"})
+    int tamanho;
+
+    @Param({"true", "false"})
+    boolean ordenada;
+
+    final Comparator<Aluno> comparator = AlunoComparators.porMatricula();
+
+    Aluno[] dados;
+    Aluno[] ordenados;
+    List<Aluno> lista;
+
+    Aluno chaveMeio;
+    Aluno chaveUltimo;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = Dados.gerar(tamanho);
+        ordenados = Dados.ordenados(dados, comparator);
+        lista = montar();
+        Aluno[] ordemDaLista = ordenada ? ordenados : dados;
+        chaveMeio = Dados.chave(ordemDaLista[tamanho / 2]);
+        chaveUltimo = Dados.chave(ordemDaLista[tamanho - 1]);
+    }
+
+    List<Aluno> nova() {
+        return estrutura.equals("ArrayList") ? new ArrayList<>() : new LinkedList<>();
+    }
+
+    List<Aluno> montar() {
+        List<Aluno> l = nova();
+        l.addAll(Arrays.asList(ordenada ? ordenados : dados));
+        return l;
+    }
+
+    @State(Scope.Thread)
+    public static class ListaMutavel {
+        List<Aluno> lista;
+        Aluno[] remocoes;
+        int proxima;
+
+        @Setup(Level.Iteration)
+        public void reconstruir(JdkListBenchmark b) {
+            lista = b.montar();
+            int[] indices = Dados.indicesAleatorios(b.tamanho, LOTE);
+            remocoes = new Aluno[indices.length];
+            for (int i = 0; i < indices.length; i++) remocoes[i] = Dados.chave(b.dados[indices[i]]);
+            proxima = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public List<Aluno> carregar() {
+        List<Aluno> l = nova();
+        for (Aluno a : dados) l.add(a);
+        if (ordenada) l.sort(comparator);
+        return l;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarInicio(ListaMutavel m) {
+        if (ordenada) {
+            inserirOrdenado(m.lista, new Aluno("0", "Novo Inicio"));
+        } else {
+            m.lista.add(0, new Aluno("LKINI", "Novo Inicio"));
+        }
+        return m.lista.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarMeio(ListaMutavel m) {
+        if (ordenada) {
+            inserirOrdenado(m.lista, new Aluno(chaveMeio.getMatricula(), "Novo Meio"));
+        } else {
+            m.lista.add(m.lista.size() / 2, new Aluno("LKMEIO", "Novo Meio"));
+        }
+        return m.lista.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public int adicionarFim(ListaMutavel m) {
+        if (ordenada) {
+            inserirOrdenado(m.lista, new Aluno("\uffff", "Novo Fim"));
+        } else {
+            m.lista.add(new Aluno("LKFIM", "Novo Fim"));
+        }
+        return m.lista.size();
+    }
+
+    @Benchmark
+    public Aluno pesquisarMeio() {
+        return pesquisar(lista, chaveMeio);
+    }
+
+    @Benchmark
+    public Aluno pesquisarUltimo() {
+        return pesquisar(lista, chaveUltimo);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public Aluno remover(ListaMutavel m) {
+        Aluno chave = m.remocoes[m.proxima++ % m.remocoes.length];
+        if (ordenada) {
+            int idx = Collections.binarySearch(m.lista, chave, comparator);
+            return idx >= 0 ? m.lista.remove(idx) : null;
+        }
+        ListIterator<Aluno> it = m.lista.listIterator();
+        while (it.hasNext()) {
+            Aluno a = it.next();
+            if (comparator.compare(a, chave) == 0) {
+                it.remove();
+                return a;
+            }
+        }
+        return null;
+    }
+
+    private void inserirOrdenado(List<Aluno> l, Aluno novo) {
+        int idx = Collections.binarySearch(l, novo, comparator);
+        l.add(idx >= 0 ? idx : -(idx + 1), novo);
+    }
+
+    private Aluno pesquisar(List<Aluno> l, Aluno chave) {
+        if (ordenada) {
+            int idx = Collections.binarySearch(l, chave, comparator);
+            return idx >= 0 ? l.get(idx) : null;
+        }
+        for (Aluno a : l) {
+            if (comparator.compare(a, chave) == 0) return a;
+        }
+        return null;
+    }
+}
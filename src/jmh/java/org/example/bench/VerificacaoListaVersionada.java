@@ -0,0 +1,51 @@
+package org.example.bench;
+
+import org.example.ListaVersionada;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Verifica que a {@link ListaVersionada} continua balanceada quando recebe muitos lotes
+ * pequenos por {@code adicionarTodos} (como o LOTE do ServidorRoster): nos dois modos,
+ * anexa {@code n} elementos em lotes de 1 a 4 e confere o conteúdo e a profundidade da
+ * árvore, que deve ficar em O(log n) — aqui, no máximo 4·log2(n).
+ *
+ * Uso: {@code java -cp target/benchmarks.jar org.example.bench.VerificacaoListaVersionada [n]}.
+ * Termina com código 1 se alguma verificação falhar.
+ */
+public final class VerificacaoListaVersionada {
+    private VerificacaoListaVersionada() {}
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        boolean ok = true;
+        for (boolean ordenada : new boolean[]{true, false}) ok &= lotesPequenos(ordenada, n);
+        System.out.println(ok ? "OK" : "FALHA");
+        if (!ok) System.exit(1);
+    }
+
+    private static boolean lotesPequenos(boolean ordenada, int n) {
+        ListaVersionada<Integer> lista = new ListaVersionada<>(ordenada, Comparator.naturalOrder());
+        long ini = System.nanoTime();
+        int proximo = 0;
+        while (proximo < n) {
+            List<Integer> lote = new ArrayList<>(4);
+            for (int j = 1 + proximo % 4; j > 0 && proximo < n; j--) lote.add(proximo++);
+            lista.adicionarTodos(lote);
+        }
+        double ms = (System.nanoTime() - ini) / 1e6;
+
+        ListaVersionada.Versao<Integer> v = lista.snapshot();
+        int esperado = 0;
+        boolean emOrdem = true;
+        for (int x : v) emOrdem &= x == esperado++;
+        int profundidade = v.profundidade();
+        int limite = 4 * (32 - Integer.numberOfLeadingZeros(n));
+        boolean ok = emOrdem && v.tamanho() == n && profundidade <= limite;
+        System.out.printf("%s, %d elementos em lotes de 1 a 4: %.0f ms, profundidade %d (limite %d) -> %s%n",
+                ordenada ? "ordenada" : "não ordenada", n, ms, profundidade, limite, ok ? "ok" : "FALHA");
+        return ok;
+    }
+}
@@ -5,18 +5,25 @@ import java.util.Objects;
 public class Aluno {
     private final String matricula; // obrigatório
     private String nome;            // obrigatório
+    private final float nota;
 
     public Aluno(String matricula, String nome) {
+        this(matricula, nome, 0f);
+    }
+
+    public Aluno(String matricula, String nome, float nota) {
         this.matricula = Objects.requireNonNull(matricula, "matrícula obrigatória");
         this.nome = Objects.requireNonNull(nome, "nome obrigatório");
+        this.nota = nota;
     }
 
     public String getMatricula() { return matricula; }
     public String getNome() { return nome; }
+    public float getNota() { return nota; }
     public void setNome(String novoNome) { this.nome = Objects.requireNonNull(novoNome); }
 
     @Override
     public String toString() {
-        return "Aluno{" + "matricula='" + matricula + '\'' + ", nome='" + nome + '\'' + '}';
+        return "Aluno{" + "matricula='" + matricula + '\'' + ", nome='" + nome + '\'' + ", nota=" + nota + '}';
     }
 }
\ No newline at end of file
@@ -14,6 +14,19 @@ public final class AlunoComparators {
         // Alternativa (Java 8+): return Comparator.comparing(Aluno::getMatricula);
     }
 
+    /**
+     * Compara a matrícula pelo valor numérico ("9" antes de "10"), ao contrário de
+     * {@link #porMatricula()}, que é lexicográfico. Lança NumberFormatException para
+     * matrículas não numéricas.
+     */
+    public static Comparator<Aluno> porMatriculaNumerica() {
+        return new Comparator<Aluno>() {
+            @Override public int compare(Aluno a1, Aluno a2) {
+                return Integer.compare(Integer.parseInt(a1.getMatricula()), Integer.parseInt(a2.getMatricula()));
+            }
+        };
+    }
+
     public static Comparator<Aluno> porNome() {
         return new Comparator<Aluno>() {
             @Override public int compare(Aluno a1, Aluno a2) {
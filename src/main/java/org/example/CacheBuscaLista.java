@@ -0,0 +1,140 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Cache de buscas por chave (ex.: matrícula) sobre uma {@link GenericLinkedList}.
+ *
+ * Guarda até {@code capacidade} resultados de {@link #pesquisar} em um
+ * {@link LinkedHashMap} em ordem de acesso, descartando o menos usado (LRU). Em uma
+ * falta, se a lista tem índice hash por chave, a busca vai a ele em O(1)
+ * ({@link GenericLinkedList#pesquisarPorChave}); senão, a lista é percorrida com
+ * {@link GenericLinkedList#pesquisarPor}, comparando só a chave: não é preciso montar
+ * um elemento "sentinela". O mesmo vale para {@link #remover}.
+ *
+ * O cache se registra como {@link ObservadorLista}, então qualquer adição ou remoção
+ * na lista (feita pelo cache ou diretamente) invalida a entrada da chave afetada.
+ * Chaves ausentes não são guardadas. Assim como a lista, não é thread-safe.
+ *
+ * Contadores de acertos, faltas, despejos e invalidações ficam disponíveis para
+ * medir se o conjunto "quente" cabe na capacidade escolhida.
+ */
+public class CacheBuscaLista<K, T> {
+    private final GenericLinkedList<T> lista;
+    private final Function<? super T, ? extends K> chaveDe;
+    private final Comparator<? super K> ordemChaves;
+    private final int capacidade;
+    private final boolean indiceDaLista; // lista com índice hash pela mesma chave
+    private final LinkedHashMap<K, T> entradas;
+
+    private long acertos;
+    private long faltas;
+    private long despejos;
+    private long invalidacoes;
+
+    private final ObservadorLista<T> invalidador = new ObservadorLista<>() {
+        @Override public void aoAdicionar(T valor) { invalidar(valor); }
+        @Override public void aoRemover(T valor) { invalidar(valor); }
+    };
+
+    /**
+     * @param chaveDe     extrai a chave de cada elemento (ex.: {@code Aluno::getMatricula})
+     * @param ordemChaves ordem das chaves, coerente com o comparator da lista
+     *                    (ex.: {@code Comparator.naturalOrder()} para {@code porMatricula})
+     * @param capacidade  número máximo de entradas no cache
+     *
+     * Se a lista tem índice por chave ({@link GenericLinkedList#isIndexadaPorChave()}),
+     * ele deve usar a mesma chave que {@code chaveDe} (ex.: os dois {@code Aluno::getMatricula}).
+     */
+    public CacheBuscaLista(GenericLinkedList<T> lista, Function<? super T, ? extends K> chaveDe,
+                           Comparator<? super K> ordemChaves, int capacidade) {
+        this.lista = Objects.requireNonNull(lista, "Lista não pode ser null");
+        this.chaveDe = Objects.requireNonNull(chaveDe, "Extrator de chave não pode ser null");
+        this.ordemChaves = Objects.requireNonNull(ordemChaves, "Ordem das chaves não pode ser null");
+        if (capacidade < 1) throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+        this.capacidade = capacidade;
+        this.indiceDaLista = lista.isIndexadaPorChave();
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, T> maisAntiga) {
+                if (size() <= CacheBuscaLista.this.capacidade) return false;
+                despejos++;
+                return true;
+            }
+        };
+        lista.adicionarObservador(invalidador);
+    }
+
+    /** Cache de alunos por matrícula (ordem lexicográfica, como {@link AlunoComparators#porMatricula()}). */
+    public static CacheBuscaLista<String, Aluno> porMatricula(GenericLinkedList<Aluno> lista, int capacidade) {
+        return new CacheBuscaLista<>(lista, Aluno::getMatricula, Comparator.naturalOrder(), capacidade);
+    }
+
+    public GenericLinkedList<T> getLista() { return lista; }
+
+    /** Retorna o elemento com a chave dada, ou null. */
+    public T pesquisar(K chave) {
+        Objects.requireNonNull(chave, "Chave não pode ser null");
+        T v = entradas.get(chave);
+        if (v != null) {
+            acertos++;
+            return v;
+        }
+        faltas++;
+        v = indiceDaLista
+                ? lista.pesquisarPorChave(chave)
+                : lista.pesquisarPor(x -> ordemChaves.compare(chaveDe.apply(x), chave));
+        if (v != null) entradas.put(chave, v);
+        return v;
+    }
+
+    /** Remove da lista o elemento com a chave dada e o retorna; null se não houver. */
+    public T remover(K chave) {
+        Objects.requireNonNull(chave, "Chave não pode ser null");
+        if (indiceDaLista) return lista.removerPorChave(chave); // o observador invalida
+        return lista.removerPor(x -> ordemChaves.compare(chaveDe.apply(x), chave));
+    }
+
+    /** Adiciona na lista; a entrada da chave, se houver, é invalidada. */
+    public void adicionar(T valor) {
+        lista.adicionar(valor);
+    }
+
+    private void invalidar(T valor) {
+        if (entradas.remove(chaveDe.apply(valor)) != null) invalidacoes++;
+    }
+
+    /** Esvazia o cache (os contadores são mantidos). */
+    public void limpar() {
+        entradas.clear();
+    }
+
+    /** Deixa de observar a lista; o cache não deve mais ser usado. */
+    public void desligar() {
+        lista.removerObservador(invalidador);
+        entradas.clear();
+    }
+
+    public int tamanho() { return entradas.size(); }
+    public int getCapacidade() { return capacidade; }
+    public long getAcertos() { return acertos; }
+    public long getFaltas() { return faltas; }
+    public long getDespejos() { return despejos; }
+    public long getInvalidacoes() { return invalidacoes; }
+
+    /** Fração das buscas atendidas pelo cache (0 se ainda não houve buscas). */
+    public double taxaAcerto() {
+        long total = acertos + faltas;
+        return total == 0 ? 0 : (double) acertos / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cache{%d/%d entradas, acertos=%d, faltas=%d, despejos=%d, invalidações=%d, taxa=%.1f%%}",
+                entradas.size(), capacidade, acertos, faltas, despejos, invalidacoes, 100 * taxaAcerto());
+    }
+}
@@ -0,0 +1,233 @@
+package org.example;
+
+import org.example.io.ConsumidorRegistro;
+import org.example.io.LeitorAlunosMapeado;
+import org.example.io.SnapshotAlunos;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Cadastro imutável de alunos em colunas de tipos primitivos, ordenado pela
+ * matrícula numérica:
+ * <ul>
+ *   <li>{@code int[] matriculas} — ordenado, usado na busca binária;</li>
+ *   <li>{@code float[] notas};</li>
+ *   <li>{@code int[] nomes} — referência ao nome em uma arena de bytes UTF-8
+ *       compartilhada, onde cada nome distinto aparece uma única vez.</li>
+ * </ul>
+ * Cada aluno custa 12 bytes mais a sua parte da arena, contra o objeto Aluno, duas
+ * Strings, dois byte[] e o nó de uma lista na representação por objetos. Os Alunos
+ * devolvidos são vistas somente leitura criadas sob demanda.
+ *
+ * Matrículas repetidas são aceitas; a busca devolve a primeira ocorrência.
+ */
+public final class CadastroAlunosColunar implements Iterable<Aluno> {
+    private final int[] matriculas;
+    private final float[] notas;
+    private final int[] nomes;
+    private final int[] limitesNomes; // nome distinto d ocupa arena[limitesNomes[d], limitesNomes[d + 1])
+    private final byte[] arena;
+
+    private CadastroAlunosColunar(int[] matriculas, float[] notas, int[] nomes, int[] limitesNomes, byte[] arena) {
+        this.matriculas = matriculas;
+        this.notas = notas;
+        this.nomes = nomes;
+        this.limitesNomes = limitesNomes;
+        this.arena = arena;
+    }
+
+    /** Lê o arquivo texto de alunos ({@code matrícula;nome;nota}). */
+    public static CadastroAlunosColunar carregar(Path arquivo) throws IOException {
+        Construtor c = new Construtor(Math.max(0, LeitorAlunosMapeado.lerCabecalho(arquivo)));
+        LeitorAlunosMapeado.ler(arquivo, c);
+        return c.construir();
+    }
+
+    /** Lê um snapshot gravado por {@link SnapshotAlunos}. */
+    public static CadastroAlunosColunar carregarSnapshot(Path arquivo) throws IOException {
+        Construtor c = new Construtor(Math.max(0, SnapshotAlunos.lerCabecalho(arquivo)));
+        SnapshotAlunos.ler(arquivo, c);
+        return c.construir();
+    }
+
+    public int tamanho() { return matriculas.length; }
+    public int nomesDistintos() { return limitesNomes.length - 1; }
+
+    public int matricula(int indice) { return matriculas[verificar(indice)]; }
+    public float nota(int indice) { return notas[verificar(indice)]; }
+
+    public String nome(int indice) {
+        int d = nomes[verificar(indice)];
+        return new String(arena, limitesNomes[d], limitesNomes[d + 1] - limitesNomes[d], StandardCharsets.UTF_8);
+    }
+
+    /** Vista somente leitura do aluno na posição (ordem crescente de matrícula). */
+    public Aluno obter(int indice) {
+        return new Vista(matricula(indice), nome(indice), notas[indice]);
+    }
+
+    /**
+     * Busca binária sobre {@code int[]}: posição da primeira ocorrência da matrícula
+     * ou, se ausente, {@code -(ponto de inserção) - 1}, como em {@link Arrays#binarySearch}.
+     */
+    public int indiceDe(int matricula) {
+        int lo = 0, hi = matriculas.length;
+        while (lo < hi) {
+            int meio = (lo + hi) >>> 1;
+            if (matriculas[meio] < matricula) lo = meio + 1;
+            else hi = meio;
+        }
+        return lo < matriculas.length && matriculas[lo] == matricula ? lo : -lo - 1;
+    }
+
+    public boolean contem(int matricula) { return indiceDe(matricula) >= 0; }
+
+    /** Retorna a vista do aluno com a matrícula, ou null se não existir. */
+    public Aluno pesquisar(int matricula) {
+        int i = indiceDe(matricula);
+        return i >= 0 ? obter(i) : null;
+    }
+
+    @Override
+    public Iterator<Aluno> iterator() {
+        return new Iterator<>() {
+            private int proximo;
+
+            @Override public boolean hasNext() { return proximo < matriculas.length; }
+
+            @Override public Aluno next() {
+                if (proximo >= matriculas.length) throw new NoSuchElementException();
+                return obter(proximo++);
+            }
+        };
+    }
+
+    /** Bytes ocupados pelos vetores (sem cabeçalhos de objeto). */
+    public long bytesOcupados() {
+        return 4L * matriculas.length + 4L * notas.length + 4L * nomes.length
+                + 4L * limitesNomes.length + arena.length;
+    }
+
+    private int verificar(int indice) {
+        if (indice < 0 || indice >= matriculas.length) {
+            throw new IndexOutOfBoundsException("Index: " + indice + ", Size: " + matriculas.length);
+        }
+        return indice;
+    }
+
+    /** Aluno somente leitura: {@code setNome} lança UnsupportedOperationException. */
+    public static final class Vista extends Aluno {
+        private Vista(int matricula, String nome, float nota) {
+            super(Integer.toString(matricula), nome, nota);
+        }
+
+        @Override
+        public void setNome(String novoNome) {
+            throw new UnsupportedOperationException("Aluno do cadastro colunar é somente leitura");
+        }
+    }
+
+    /**
+     * Acumula registros (na ordem em que chegarem) e monta o cadastro ordenado.
+     * Serve direto como {@link ConsumidorRegistro} dos leitores de {@code org.example.io}.
+     */
+    public static final class Construtor implements ConsumidorRegistro {
+        private int[] matriculas;
+        private float[] notas;
+        private int[] nomes;
+        private int tamanho;
+
+        private final Map<String, Integer> idsNomes = new HashMap<>();
+        private int[] limitesNomes = new int[64];
+        private byte[] arena = new byte[1024];
+        private int usadosArena;
+
+        public Construtor() { this(16); }
+
+        public Construtor(int capacidadeInicial) {
+            int c = Math.max(1, capacidadeInicial);
+            matriculas = new int[c];
+            notas = new float[c];
+            nomes = new int[c];
+        }
+
+        @Override
+        public void registro(int matricula, String nome, float nota) {
+            adicionar(matricula, nome, nota);
+        }
+
+        public Construtor adicionar(int matricula, String nome, float nota) {
+            Objects.requireNonNull(nome, "nome obrigatório");
+            if (tamanho == matriculas.length) {
+                int nova = Math.max(16, tamanho + (tamanho >> 1));
+                matriculas = Arrays.copyOf(matriculas, nova);
+                notas = Arrays.copyOf(notas, nova);
+                nomes = Arrays.copyOf(nomes, nova);
+            }
+            matriculas[tamanho] = matricula;
+            notas[tamanho] = nota;
+            nomes[tamanho] = idNome(nome);
+            tamanho++;
+            return this;
+        }
+
+        public Construtor adicionar(Aluno aluno) {
+            return adicionar(Integer.parseInt(aluno.getMatricula()), aluno.getNome(), aluno.getNota());
+        }
+
+        private int idNome(String nome) {
+            Integer id = idsNomes.get(nome);
+            if (id != null) return id;
+            int novo = idsNomes.size();
+            byte[] bytes = nome.getBytes(StandardCharsets.UTF_8);
+            if (usadosArena + bytes.length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arena.length * 2, usadosArena + bytes.length));
+            }
+            System.arraycopy(bytes, 0, arena, usadosArena, bytes.length);
+            if (novo + 2 > limitesNomes.length) limitesNomes = Arrays.copyOf(limitesNomes, limitesNomes.length * 2);
+            limitesNomes[novo] = usadosArena;
+            usadosArena += bytes.length;
+            limitesNomes[novo + 1] = usadosArena;
+            idsNomes.put(nome, novo);
+            return novo;
+        }
+
+        /**
+         * Ordena por matrícula (estável: repetidas mantêm a ordem de chegada) e devolve
+         * o cadastro. A ordenação é de um long[] com (matrícula, posição), sem objetos.
+         */
+        public CadastroAlunosColunar construir() {
+            boolean ordenado = true;
+            for (int i = 1; i < tamanho && ordenado; i++) ordenado = matriculas[i - 1] <= matriculas[i];
+            int[] m = new int[tamanho];
+            float[] n = new float[tamanho];
+            int[] r = new int[tamanho];
+            if (ordenado) {
+                System.arraycopy(matriculas, 0, m, 0, tamanho);
+                System.arraycopy(notas, 0, n, 0, tamanho);
+                System.arraycopy(nomes, 0, r, 0, tamanho);
+            } else {
+                long[] chaves = new long[tamanho];
+                for (int i = 0; i < tamanho; i++) chaves[i] = ((long) matriculas[i] << 32) | i;
+                Arrays.parallelSort(chaves);
+                for (int i = 0; i < tamanho; i++) {
+                    int origem = (int) chaves[i];
+                    m[i] = matriculas[origem];
+                    n[i] = notas[origem];
+                    r[i] = nomes[origem];
+                }
+            }
+            int distintos = idsNomes.size();
+            return new CadastroAlunosColunar(m, n, r,
+                    Arrays.copyOf(limitesNomes, distintos + 1), Arrays.copyOf(arena, usadosArena));
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Versão thread-safe e sem locks (lock-free) da {@link GenericLinkedList}, para uma
+ * mesma lista ser compartilhada entre várias threads.
+ *
+ * É a lista de Harris-Michael: o {@code next} de cada nó é um
+ * {@link AtomicMarkableReference} cuja marca indica que o próprio nó foi removido.
+ * Remover é marcar (remoção lógica, o ponto de linearização) e depois desligar o nó
+ * com um CAS no antecessor; buscas que encontram nós marcados ajudam a desligá-los.
+ * Toda alteração é um CAS, e nenhuma thread espera por outra.
+ *
+ * - Lista ordenada: adicionar procura o primeiro elemento >= novo e insere antes
+ *   dele (novos antes dos equivalentes, como na GenericLinkedList).
+ * - Lista não ordenada: adicionar anexa no fim com CAS a partir de um ponteiro de
+ *   cauda (que pode estar atrasado e é ajudado a avançar). Se a cauda foi removida,
+ *   o fim é reencontrado percorrendo a lista.
+ *
+ * {@link #pesquisar} e {@link #contemElemento} só leem: nunca bloqueiam nem escrevem.
+ * {@link #tamanho()} e a iteração são fracamente consistentes (refletem alterações
+ * concorrentes ou não, mas nunca lançam ConcurrentModificationException).
+ */
+public class ConcurrentGenericLinkedList<T> implements Iterable<T> {
+    private static final class Node<T> {
+        final T data;
+        final AtomicMarkableReference<Node<T>> next;
+
+        Node(T data, Node<T> next) {
+            this.data = data;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+
+    /** Par (antecessor, atual) devolvido pela busca; {@code atual} null => fim da lista. */
+    private record Janela<T>(Node<T> anterior, Node<T> atual) {}
+
+    private final Node<T> head = new Node<>(null, null); // sentinela, nunca removido
+    private final AtomicReference<Node<T>> cauda = new AtomicReference<>(head); // só lista não ordenada
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final boolean ordered;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * @param ordered    se true, a lista mantém ordem crescente definida pelo comparator
+     * @param comparator critério de comparação (não pode ser null)
+     */
+    public ConcurrentGenericLinkedList(boolean ordered, Comparator<? super T> comparator) {
+        this.ordered = ordered;
+        this.comparator = Objects.requireNonNull(comparator, "Comparator não pode ser null");
+    }
+
+    public boolean isOrdenada() { return ordered; }
+    public int tamanho() { return size.get(); }
+    public Comparator<? super T> getComparator() { return comparator; }
+
+    /**
+     * Adiciona um elemento. Em lista ordenada, insere na posição correta; em lista
+     * não ordenada, no fim. Lock-free: repete o CAS se outra thread alterou o trecho.
+     */
+    public void adicionar(T novoValor) {
+        Objects.requireNonNull(novoValor, "Valor não pode ser null");
+        if (!ordered) {
+            anexar(novoValor);
+        } else {
+            while (true) {
+                Janela<T> j = buscar(x -> comparator.compare(x, novoValor) >= 0);
+                Node<T> novo = new Node<>(novoValor, j.atual());
+                if (j.anterior().next.compareAndSet(j.atual(), novo, false, false)) break;
+            }
+        }
+        size.incrementAndGet();
+    }
+
+    public void adicionarTodos(Iterable<? extends T> valores) {
+        Objects.requireNonNull(valores, "Lote não pode ser null");
+        for (T v : valores) adicionar(v);
+    }
+
+    /**
+     * Retorna true se encontrar um elemento equivalente segundo o Comparator.
+     */
+    public boolean contemElemento(T valor) {
+        return pesquisar(valor) != null;
+    }
+
+    /**
+     * Busca somente leitura (wait-free em relação às outras threads): percorre a
+     * lista ignorando nós marcados, sem ajudar a desligá-los. Em lista ordenada,
+     * para cedo quando o atual excede o valor.
+     */
+    public T pesquisar(T valor) {
+        Objects.requireNonNull(valor, "Valor de busca não pode ser null");
+        Node<T> curr = head.next.getReference();
+        while (curr != null) {
+            int cmp = comparator.compare(curr.data, valor);
+            if (cmp == 0 && !curr.next.isMarked()) return curr.data;
+            if (ordered && cmp > 0) return null;
+            curr = curr.next.getReference();
+        }
+        return null;
+    }
+
+    /**
+     * Remove o primeiro elemento equivalente a {@code valor} e o retorna; null se não
+     * houver. Se duas threads removem o mesmo elemento, só uma o recebe.
+     */
+    public T remover(T valor) {
+        Objects.requireNonNull(valor, "Valor de remoção não pode ser null");
+        Predicate<T> parar = ordered
+                ? x -> comparator.compare(x, valor) >= 0
+                : x -> comparator.compare(x, valor) == 0;
+        while (true) {
+            Janela<T> j = buscar(parar);
+            Node<T> curr = j.atual();
+            if (curr == null || comparator.compare(curr.data, valor) != 0) return null;
+            Node<T> succ = curr.next.getReference();
+            // remoção lógica: marcar o next do próprio nó (falha se já marcado ou se mudou)
+            if (!curr.next.compareAndSet(succ, succ, false, true)) continue;
+            size.decrementAndGet();
+            j.anterior().next.compareAndSet(curr, succ, false, false); // remoção física; se falhar, a próxima busca desliga
+            return curr.data;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (T v : this) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(v);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Percorre a partir do head desligando nós marcados, até o primeiro nó não marcado
+     * que satisfaz {@code parar} (ou o fim). Recomeça se um CAS de desligamento falha.
+     */
+    private Janela<T> buscar(Predicate<? super T> parar) {
+        boolean[] marcado = {false};
+        recomecar:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> curr = pred.next.getReference();
+            while (true) {
+                if (curr == null) return new Janela<>(pred, null);
+                Node<T> succ = curr.next.get(marcado);
+                while (marcado[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) continue recomecar;
+                    curr = succ;
+                    if (curr == null) return new Janela<>(pred, null);
+                    succ = curr.next.get(marcado);
+                }
+                if (parar.test(curr.data)) return new Janela<>(pred, curr);
+                pred = curr;
+                curr = succ;
+            }
+        }
+    }
+
+    /** Lista não ordenada: CAS no next do último nó, como na fila de Michael-Scott. */
+    private void anexar(T valor) {
+        Node<T> novo = new Node<>(valor, null);
+        boolean[] marcado = {false};
+        while (true) {
+            Node<T> t = cauda.get();
+            Node<T> prox = t.next.get(marcado);
+            if (marcado[0]) {                   // a cauda foi removida: reencontra o fim
+                cauda.compareAndSet(t, buscar(x -> false).anterior());
+            } else if (prox != null) {          // cauda atrasada: ajuda a avançar
+                cauda.compareAndSet(t, prox);
+            } else if (t.next.compareAndSet(null, novo, false, false)) {
+                cauda.compareAndSet(t, novo);
+                return;
+            }
+        }
+    }
+
+    /** Iterador fracamente consistente: pula nós removidos; remove() não é suportado. */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> proximo = vivo(head.next.getReference());
+
+            @Override
+            public boolean hasNext() {
+                return proximo != null;
+            }
+
+            @Override
+            public T next() {
+                if (proximo == null) throw new NoSuchElementException();
+                T valor = proximo.data;
+                proximo = vivo(proximo.next.getReference());
+                return valor;
+            }
+        };
+    }
+
+    private static <T> Node<T> vivo(Node<T> x) {
+        while (x != null && x.next.isMarked()) x = x.next.getReference();
+        return x;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        int c = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT;
+        return Spliterators.spliteratorUnknownSize(iterator(), c);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -1,85 +1,330 @@
 package org.example;
 
+import org.example.metricas.ColetorMetricas;
+import org.example.metricas.Medicao;
+import org.example.metricas.OperacaoLista;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Lista encadeada genérica que pode ser ordenada ou não, conforme definido no construtor.
  * A ordenação e as buscas usam o Comparator informado.
+ *
+ * Lista ordenada pode, opcionalmente, manter um índice skip list sobre os próprios nós:
+ * cada nó sorteia uma altura e, além de {@code next}, ganha ponteiros "expressos" para
+ * o próximo nó de mesma altura. Buscas, inserções e remoções descem pelos níveis em
+ * O(log n) esperado, em vez de percorrer a lista a partir do head. Cada ponteiro expresso
+ * guarda também quantas posições salta (skip list indexável), o que dá posição por
+ * valor ({@link #contarMenores}), k-ésimo elemento ({@link #obterPorIndice}) e
+ * contagem de intervalo em O(log n); {@link #entre} percorre um intervalo sob demanda
+ * a partir de uma descida pelo índice.
+ *
+ * Lista não ordenada pode, opcionalmente, manter um índice hash chave -> nó (ex.: por
+ * matrícula). Como a lista é duplamente encadeada, pesquisar e remover pela chave
+ * ficam O(1) esperado.
+ *
+ * Acesso por posição (obterPorIndice, adicionarPosicao) parte do ponto mais próximo
+ * entre head, tail e o "dedo" — o último nó acessado por posição, lembrado com seu
+ * índice. Acessos sequenciais ou agrupados custam O(distância), não O(índice).
+ *
+ * A lista é {@link Iterable}: o iterador é fail-fast e seu remove() desliga o nó em O(1);
+ * stream()/parallelStream() usam um Spliterator que divide a lista em lotes.
+ *
+ * Estruturas auxiliares (caches, índices secundários) podem se registrar como
+ * {@link ObservadorLista} para serem avisadas de cada elemento que entra ou sai.
+ *
+ * Instrumentação opcional ({@link #setMetricas}): adicionar, pesquisar, remover,
+ * obterPorIndice e adicionarPosicao passam a informar latência, comparações, nós
+ * percorridos e paradas antecipadas a um {@link ColetorMetricas}. Desligada, custa
+ * um teste de campo null por operação.
  */
-public class GenericLinkedList<T> {
+public class GenericLinkedList<T> implements Iterable<T> {
     private static class Node<T> {
         T data;
         Node<T> next;
+        Node<T> prev;
+        Node<T>[] acima; // índice: acima[i] = próximo nó no nível i+1 (null se altura 1 ou sem índice)
+        int[] larguras;  // larguras[i] = posições saltadas por acima[i] (até size, se acima[i] == null)
+        int repetidas;   // índice hash: outras ocorrências da mesma chave (só no nó indexado)
         Node(T data) { this.data = data; }
     }
 
+    private static final int MAX_NIVEIS = 16; // com p = 1/4, suficiente para 4^16 elementos
+
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private int modCount; // alterações estruturais, para iteradores fail-fast
+
+    // Dedo: último nó acessado por posição (dedoNo == null => inválido)
+    private Node<T> dedoNo;
+    private int dedoIndice;
 
     private final boolean ordered;
-    private final Comparator<? super T> comparator;
+    private final Comparator<? super T> criterio;
+    private Comparator<? super T> comparator; // o critério ou, com métricas, um invólucro que conta as chamadas
+
+    // Índice skip list (apenas lista ordenada). O nível 0 é a própria cadeia de next.
+    private final boolean indexada;
+    private final Node<T>[] cabecas;     // cabecas[i] = primeiro nó do nível i+1
+    private final int[] largurasCabeca;  // posições saltadas a partir do início (posição -1) em cada nível
+    private final Node<T>[] predecessores; // área de trabalho reaproveitada entre operações
+    private final int[] posicoes;          // posição de cada predecessor (-1 = início)
+    private int niveis;                  // níveis em uso (>= 1)
+    private int semente = 0x2545F491;    // xorshift para sortear alturas
+
+    // Índice hash por chave (apenas lista não ordenada)
+    private final Function<? super T, ?> extratorChave;
+    private final HashMap<Object, Node<T>> porChave;
+
+    private List<ObservadorLista<? super T>> observadores; // null => nenhum
+
+    // Métricas (metricas == null => desligadas). Zerados no início de cada operação medida.
+    private ColetorMetricas metricas;
+    private long comparacoes;
+    private long passos;              // nós percorridos por posição (noNaPosicao)
+    private boolean paradaAntecipada; // busca/remoção ordenada que parou antes do fim sem achar
 
     /**
      * @param ordered    se true, a lista mantém ordem crescente definida pelo comparator
      * @param comparator critério de comparação (não pode ser null)
      */
     public GenericLinkedList(boolean ordered, Comparator<? super T> comparator) {
+        this(ordered, comparator, false);
+    }
+
+    /**
+     * @param ordered    se true, a lista mantém ordem crescente definida pelo comparator
+     * @param comparator critério de comparação (não pode ser null)
+     * @param indexada   se true, mantém o índice skip list (exige lista ordenada)
+     */
+    public GenericLinkedList(boolean ordered, Comparator<? super T> comparator, boolean indexada) {
+        this(ordered, comparator, indexada, null);
+    }
+
+    /**
+     * Cria uma lista NÃO ordenada com índice hash pela chave extraída de cada elemento
+     * (ex.: {@code Aluno::getMatricula}). A chave deve ser coerente com o comparator:
+     * compare(a, b) == 0 exatamente quando as chaves de a e b são iguais (equals).
+     * Com chaves repetidas, pesquisar/remover atuam sobre uma das ocorrências equivalentes.
+     *
+     * @param comparator    critério de comparação (não pode ser null)
+     * @param extratorChave função que extrai a chave de cada elemento (não pode ser null)
+     */
+    public GenericLinkedList(Comparator<? super T> comparator, Function<? super T, ?> extratorChave) {
+        this(false, comparator, false, Objects.requireNonNull(extratorChave, "Extrator de chave não pode ser null"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private GenericLinkedList(boolean ordered, Comparator<? super T> comparator, boolean indexada,
+                              Function<? super T, ?> extratorChave) {
+        if (indexada && !ordered) {
+            throw new IllegalArgumentException("Índice skip list só é suportado em lista ORDENADA");
+        }
         this.ordered = ordered;
-        this.comparator = Objects.requireNonNull(comparator, "Comparator não pode ser null");
+        this.criterio = Objects.requireNonNull(comparator, "Comparator não pode ser null");
+        this.comparator = criterio;
         this.head = null;
         this.tail = null;
         this.size = 0;
+        this.indexada = indexada;
+        this.cabecas = indexada ? (Node<T>[]) new Node[MAX_NIVEIS - 1] : null;
+        this.largurasCabeca = indexada ? new int[MAX_NIVEIS - 1] : null;
+        if (indexada) Arrays.fill(largurasCabeca, 1); // lista vazia: do início direto ao fim
+        this.predecessores = indexada ? (Node<T>[]) new Node[MAX_NIVEIS] : null;
+        this.posicoes = indexada ? new int[MAX_NIVEIS] : null;
+        this.niveis = 1;
+        this.extratorChave = extratorChave;
+        this.porChave = extratorChave != null ? new HashMap<>() : null;
     }
 
     public boolean isOrdenada() { return ordered; }
+    public boolean isIndexada() { return indexada; }
+    public boolean isIndexadaPorChave() { return porChave != null; }
     public int tamanho() { return size; }
+    public Comparator<? super T> getComparator() { return criterio; }
+
+    /**
+     * Liga (coletor != null) ou desliga (null) a instrumentação das operações
+     * adicionar, pesquisar, remover, obterPorIndice e adicionarPosicao.
+     */
+    public void setMetricas(ColetorMetricas coletor) {
+        this.metricas = coletor;
+        this.comparator = coletor == null ? criterio : (a, b) -> {
+            comparacoes++;
+            return criterio.compare(a, b);
+        };
+    }
+
+    public ColetorMetricas getMetricas() { return metricas; }
+
+    private long iniciarMedicao() {
+        comparacoes = 0;
+        passos = 0;
+        paradaAntecipada = false;
+        return System.nanoTime();
+    }
+
+    private void concluirMedicao(OperacaoLista operacao, long inicio) {
+        long nanos = System.nanoTime() - inicio;
+        metricas.registrar(new Medicao(operacao, nanos, comparacoes, comparacoes + passos, paradaAntecipada, size));
+    }
 
     /**
      * Adiciona um elemento. Em lista ordenada, insere na posição correta.
      * Em lista não ordenada, insere no fim (mantemos tail para O(1)).
      */
     public void adicionar(T novoValor) {
+        if (metricas == null) {
+            adicionarSemMedir(novoValor);
+            return;
+        }
+        long inicio = iniciarMedicao();
+        adicionarSemMedir(novoValor);
+        concluirMedicao(OperacaoLista.ADICIONAR, inicio);
+    }
+
+    private void adicionarSemMedir(T novoValor) {
         Objects.requireNonNull(novoValor, "Valor não pode ser null");
+        if (indexada) {
+            adicionarIndexado(novoValor);
+            return;
+        }
         Node<T> novo = new Node<>(novoValor);
 
-        if (head == null) { // lista vazia
-            head = tail = novo;
-            size++;
+        if (!ordered) { // inserir no fim
+            ligarAntes(novo, null);
+            indexarChave(novo);
             return;
         }
 
-        if (!ordered) { // inserir no fim
-            tail.next = novo;
-            tail = novo;
-            size++;
+        // Lista ordenada: inserir antes do primeiro elemento >= novoValor
+        Node<T> curr = head;
+        while (curr != null && comparator.compare(novoValor, curr.data) > 0) {
+            curr = curr.next;
+        }
+        ligarAntes(novo, curr); // curr == null => inseriu no fim
+    }
+
+    /**
+     * Adiciona todos os elementos do lote de uma só vez.
+     * Em lista não ordenada, equivale a adicionar cada um no fim (O(m)).
+     * Em lista ordenada:
+     * - lote já em ordem e maior que o tail => anexado no fim em O(m), sem percorrer a lista;
+     * - caso contrário => o lote é ordenado (O(m log m)) e intercalado com a lista
+     *   em uma única passada (O(n + m)).
+     * Equivalentes ficam como em adicionar: os novos antes dos que já estavam na lista
+     * (entre si, os do lote mantêm a ordem do lote).
+     */
+    public void adicionarTodos(Iterable<? extends T> valores) {
+        Objects.requireNonNull(valores, "Lote não pode ser null");
+
+        if (!ordered) { // inserir no fim, um a um
+            for (T v : valores) {
+                Node<T> novo = new Node<>(Objects.requireNonNull(v, "Valor não pode ser null"));
+                ligarAntes(novo, null);
+                indexarChave(novo);
+            }
             return;
         }
 
-        // Lista ordenada: inserir mantendo ordem crescente
-        // Caso 1: inserir no início
-        if (comparator.compare(novoValor, head.data) <= 0) {
-            novo.next = head;
-            head = novo;
-            size++;
+        List<T> lote = new ArrayList<>();
+        boolean emOrdem = true;
+        for (T v : valores) {
+            Objects.requireNonNull(v, "Valor não pode ser null");
+            if (emOrdem && !lote.isEmpty() && comparator.compare(lote.get(lote.size() - 1), v) > 0) {
+                emOrdem = false;
+            }
+            lote.add(v);
+        }
+        if (lote.isEmpty()) return;
+        if (!emOrdem) lote.sort(comparator); // estável: preserva a ordem do lote entre equivalentes
+
+        // Caso 1: o lote inteiro vem depois do tail (carga inicial ou arquivo já ordenado)
+        if (tail == null || comparator.compare(lote.get(0), tail.data) > 0) {
+            if (indexada) {
+                anexarIndexados(lote);
+            } else {
+                for (T v : lote) ligarAntes(new Node<>(v), null);
+            }
             return;
         }
 
-        // Caso 2: encontrar ponto de inserção no meio/fim
-        Node<T> prev = head;
-        Node<T> curr = head.next;
-        while (curr != null && comparator.compare(novoValor, curr.data) > 0) {
-            prev = curr;
-            curr = curr.next;
+        // Caso 2: intercalação (merge) em uma passada; curr só avança, nunca volta ao head
+        Node<T> curr = head;
+        for (T v : lote) {
+            while (curr != null && comparator.compare(v, curr.data) > 0) {
+                curr = curr.next;
+            }
+            Node<T> novo = new Node<>(v);
+            if (indexada) definirAltura(novo, sortearAltura());
+            ligarAntes(novo, curr);
         }
-        // insere entre prev e curr
-        prev.next = novo;
-        novo.next = curr;
-        if (curr == null) { // inseriu no fim
-            tail = novo;
+        if (indexada) reconstruirIndice(); // religa os níveis em O(n + m), mantendo as alturas
+    }
+
+    /**
+     * Liga {@code novo} imediatamente antes de {@code sucessor} (null => no fim), em O(1).
+     * Cuida de head/tail/size; índices (skip list, hash) ficam a cargo de quem chama.
+     */
+    private void ligarAntes(Node<T> novo, Node<T> sucessor) {
+        // Dedo: inserir no fim não desloca ninguém; antes do head ou do próprio dedo, desloca +1
+        if (dedoNo != null && sucessor != null) {
+            if (sucessor == head || sucessor == dedoNo) dedoIndice++;
+            else dedoNo = null; // posição relativa desconhecida
         }
+        Node<T> anterior = (sucessor == null) ? tail : sucessor.prev;
+        novo.prev = anterior;
+        novo.next = sucessor;
+        if (anterior == null) head = novo; else anterior.next = novo;
+        if (sucessor == null) tail = novo; else sucessor.prev = novo;
         size++;
+        modCount++;
+        if (observadores != null) for (ObservadorLista<? super T> o : observadores) o.aoAdicionar(novo.data);
+    }
+
+    /** Desliga {@code x} da cadeia em O(1). Os ponteiros do próprio x são preservados. */
+    private void desligar(Node<T> x) {
+        if (dedoNo != null) {
+            if (x == dedoNo) {          // o sucessor herda o índice; sem sucessor, recua
+                if (x.next != null) dedoNo = x.next;
+                else { dedoNo = x.prev; dedoIndice--; }
+            } else if (x == head) {
+                dedoIndice--;
+            } else if (x != tail) {     // remover o tail não afeta índices anteriores
+                dedoNo = null;
+            }
+        }
+        if (x.prev == null) head = x.next; else x.prev.next = x.next;
+        if (x.next == null) tail = x.prev; else x.next.prev = x.prev;
+        size--;
+        modCount++;
+        if (observadores != null) for (ObservadorLista<? super T> o : observadores) o.aoRemover(x.data);
+    }
+
+    /** Remove um nó já localizado, mantendo os índices (hash e skip list) em dia. */
+    private T removerNo(Node<T> x) {
+        if (porChave != null) desindexarChave(x);
+        if (indexada) desligarDoIndice(x);
+        desligar(x);
+        return x.data;
     }
 
     /**
@@ -90,9 +335,19 @@ public class GenericLinkedList<T> {
      * - Em lista **não ordenada**:
      *   - index==0 => insere no início (O(1))
      *   - index==size => insere no fim (O(1)) usando tail
-     *   - 0<index<size => insere no meio (O(k))
+     *   - 0<index<size => insere no meio (O(d), d = distância até head, tail ou dedo)
      */
     public void adicionarPosicao(int index, T valor) {
+        if (metricas == null) {
+            adicionarPosicaoSemMedir(index, valor);
+            return;
+        }
+        long inicio = iniciarMedicao();
+        adicionarPosicaoSemMedir(index, valor);
+        concluirMedicao(OperacaoLista.ADICIONAR_POSICAO, inicio);
+    }
+
+    private void adicionarPosicaoSemMedir(int index, T valor) {
         if (ordered) {
             throw new IllegalStateException(
                     "Inserção por posição não permitida em lista ORDENADA; use adicionar(T) para manter a ordem.");
@@ -104,35 +359,16 @@ public class GenericLinkedList<T> {
 
         Node<T> novo = new Node<>(valor);
 
-        // Inserção no início
-        if (index == 0) {
-            novo.next = head;
-            head = novo;
-            if (size == 0) tail = novo; // se estava vazia, tail também aponta pro novo
-            size++;
-            return;
+        if (index == 0) {               // Inserção no início
+            ligarAntes(novo, head);
+        } else if (index == size) {     // Inserção no fim, usando tail
+            ligarAntes(novo, null);
+        } else {                        // Inserção no meio: a partir de head, tail ou dedo
+            ligarAntes(novo, noNaPosicao(index));
         }
-
-        // Inserção no fim
-        if (index == size) {
-            if (tail == null) { // lista estava vazia (size==0)
-                head = tail = novo;
-            } else {
-                tail.next = novo;
-                tail = novo;
-            }
-            size++;
-            return;
-        }
-
-        // Inserção no meio: avança até o nó anterior à posição
-        Node<T> prev = head;
-        for (int i = 1; i < index; i++) {
-            prev = prev.next;
-        }
-        novo.next = prev.next;
-        prev.next = novo;
-        size++;
+        dedoNo = novo; // o novo nó passa a ocupar a posição index
+        dedoIndice = index;
+        indexarChave(novo);
     }
 
     /**
@@ -148,12 +384,30 @@ public class GenericLinkedList<T> {
      * ou null se não encontrar. Em lista ordenada, faz early stop.
      */
     public T pesquisar(T valor) {
+        if (metricas == null) return pesquisarSemMedir(valor);
+        long inicio = iniciarMedicao();
+        T r = pesquisarSemMedir(valor);
+        concluirMedicao(OperacaoLista.PESQUISAR, inicio);
+        return r;
+    }
+
+    private T pesquisarSemMedir(T valor) {
         Objects.requireNonNull(valor, "Valor de busca não pode ser null");
+        if (porChave != null) return pesquisarPorChave(extratorChave.apply(valor));
+        if (indexada) {
+            Node<T> cand = sucessor(buscarPredecessores(valor, null));
+            if (cand != null && comparator.compare(cand.data, valor) == 0) return cand.data;
+            paradaAntecipada = cand != null;
+            return null;
+        }
         Node<T> curr = head;
         while (curr != null) {
             int cmp = comparator.compare(curr.data, valor);
             if (cmp == 0) return curr.data;
-            if (ordered && cmp > 0) return null; // early stop
+            if (ordered && cmp > 0) { // early stop
+                paradaAntecipada = true;
+                return null;
+            }
             curr = curr.next;
         }
         return null;
@@ -164,37 +418,599 @@ public class GenericLinkedList<T> {
      * retorna null se não encontrar. Em lista ordenada, faz early stop.
      */
     public T remover(T valor) {
-        Objects.requireNonNull(valor, "Valor de remoção não pode ser null");
-        if (head == null) return null;
+        if (metricas == null) return removerSemMedir(valor);
+        long inicio = iniciarMedicao();
+        T r = removerSemMedir(valor);
+        concluirMedicao(OperacaoLista.REMOVER, inicio);
+        return r;
+    }
 
-        int cmpHead = comparator.compare(head.data, valor);
-        if (cmpHead == 0) { // remove head
-            T removed = head.data;
-            head = head.next;
-            if (head == null) tail = null; // lista ficou vazia
-            size--;
-            return removed;
-        }
-        if (ordered && cmpHead > 0) return null; // early stop
+    private T removerSemMedir(T valor) {
+        Objects.requireNonNull(valor, "Valor de remoção não pode ser null");
+        if (porChave != null) return removerPorChave(extratorChave.apply(valor));
+        if (indexada) return removerIndexado(valor);
 
-        Node<T> prev = head;
-        Node<T> curr = head.next;
+        Node<T> curr = head;
         while (curr != null) {
             int cmp = comparator.compare(curr.data, valor);
             if (cmp == 0) {
-                T removed = curr.data;
-                prev.next = curr.next;
-                if (curr == tail) tail = prev;
-                size--;
-                return removed;
+                desligar(curr); // O(1): a lista é duplamente encadeada
+                return curr.data;
+            }
+            if (ordered && cmp > 0) { // early stop
+                paradaAntecipada = true;
+                return null;
             }
+            curr = curr.next;
+        }
+        return null;
+    }
+
+    /**
+     * Busca sem precisar de um elemento "sentinela": {@code comparacao} compara cada
+     * elemento com o alvo, como {@code comparator.compare(elemento, alvo)} faria
+     * (ex.: {@code a -> a.getMatricula().compareTo(mat)}). Deve ser coerente com a ordem
+     * da lista; em lista não ordenada só importa o resultado 0. Em lista ordenada faz
+     * early stop e, com índice skip list, desce pelos níveis.
+     */
+    public T pesquisarPor(ToIntFunction<? super T> comparacao) {
+        Node<T> no = localizar(comparacao);
+        return no == null ? null : no.data;
+    }
+
+    /** Como {@link #pesquisarPor}, mas remove o primeiro equivalente encontrado e o retorna. */
+    public T removerPor(ToIntFunction<? super T> comparacao) {
+        Node<T> no = localizar(comparacao);
+        return no == null ? null : removerNo(no);
+    }
+
+    /** Primeiro nó com {@code comparacao == 0}, ou null. */
+    private Node<T> localizar(ToIntFunction<? super T> comparacao) {
+        Objects.requireNonNull(comparacao, "Comparação não pode ser null");
+        Node<T> curr = head;
+        if (indexada) { // desce até o último nó estritamente menor que o alvo
+            Node<T> x = null;
+            for (int nivel = niveis - 1; nivel >= 0; nivel--) {
+                Node<T> prox = (x == null) ? primeiroNoNivel(nivel) : proximoNoNivel(x, nivel);
+                while (prox != null && comparacao.applyAsInt(prox.data) < 0) {
+                    x = prox;
+                    prox = proximoNoNivel(x, nivel);
+                }
+            }
+            curr = sucessor(x);
+        }
+        while (curr != null) {
+            int cmp = comparacao.applyAsInt(curr.data);
+            if (cmp == 0) return curr;
             if (ordered && cmp > 0) return null; // early stop
-            prev = curr;
             curr = curr.next;
         }
         return null;
     }
 
+    /**
+     * Registra um observador das alterações da lista (ver {@link ObservadorLista}).
+     * Não é avisado dos elementos que já estavam na lista.
+     */
+    public void adicionarObservador(ObservadorLista<? super T> observador) {
+        Objects.requireNonNull(observador, "Observador não pode ser null");
+        if (observadores == null) observadores = new ArrayList<>(2);
+        observadores.add(observador);
+    }
+
+    public void removerObservador(ObservadorLista<? super T> observador) {
+        if (observadores != null && observadores.remove(observador) && observadores.isEmpty()) {
+            observadores = null;
+        }
+    }
+
+    /**
+     * Busca pela chave no índice hash, em O(1) esperado, sem precisar montar um
+     * elemento "sentinela" só para a comparação.
+     *
+     * @throws IllegalStateException se a lista não foi criada com índice por chave
+     */
+    public T pesquisarPorChave(Object chave) {
+        exigirIndiceChave();
+        Node<T> no = porChave.get(chave);
+        return no == null ? null : no.data;
+    }
+
+    /**
+     * Remove pela chave no índice hash, em O(1) esperado; retorna o elemento removido ou null.
+     *
+     * @throws IllegalStateException se a lista não foi criada com índice por chave
+     */
+    public T removerPorChave(Object chave) {
+        exigirIndiceChave();
+        Node<T> no = porChave.get(chave);
+        if (no == null) return null;
+        desindexarChave(no);
+        desligar(no);
+        return no.data;
+    }
+
+    /** Operação de um lote para {@link #aplicarLote}: adicionar ou remover {@code valor}. */
+    public record Operacao<T>(boolean adicao, T valor) {
+        public Operacao {
+            Objects.requireNonNull(valor, "Valor não pode ser null");
+        }
+
+        public static <T> Operacao<T> adicionar(T valor) { return new Operacao<>(true, valor); }
+        public static <T> Operacao<T> remover(T valor) { return new Operacao<>(false, valor); }
+    }
+
+    /**
+     * Aplica um lote de adições e remoções com o mesmo efeito de chamar adicionar/remover
+     * uma a uma, na ordem da lista. Retorna, na mesma ordem, o valor adicionado ou o
+     * elemento removido (null se não havia equivalente).
+     *
+     * Em lista ordenada, as operações são ordenadas pelo comparator (de forma estável,
+     * então operações sobre elementos equivalentes mantêm a ordem entre si) e aplicadas
+     * em uma única passada com um cursor que só avança: O(n + m log m) em vez de m
+     * percursos. Com índice skip list, os níveis são religados no fim, em O(n).
+     * Em lista não ordenada, as operações são aplicadas uma a uma.
+     */
+    public List<T> aplicarLote(List<Operacao<T>> operacoes) {
+        Objects.requireNonNull(operacoes, "Lote não pode ser null");
+        int m = operacoes.size();
+        List<T> resultados = new ArrayList<>(Collections.nCopies(m, (T) null));
+        if (!ordered) {
+            for (int i = 0; i < m; i++) {
+                Operacao<T> op = operacoes.get(i);
+                if (op.adicao()) adicionar(op.valor());
+                resultados.set(i, op.adicao() ? op.valor() : remover(op.valor()));
+            }
+            return resultados;
+        }
+
+        Integer[] ordem = new Integer[m];
+        for (int i = 0; i < m; i++) ordem[i] = i;
+        Arrays.sort(ordem, (a, b) -> comparator.compare(operacoes.get(a).valor(), operacoes.get(b).valor()));
+
+        boolean alterouIndice = false;
+        Node<T> curr = head; // primeiro nó >= valor da operação atual
+        for (int i : ordem) {
+            Operacao<T> op = operacoes.get(i);
+            T v = op.valor();
+            while (curr != null && comparator.compare(curr.data, v) < 0) curr = curr.next;
+            if (op.adicao()) {
+                Node<T> novo = new Node<>(v);
+                if (indexada) definirAltura(novo, sortearAltura());
+                ligarAntes(novo, curr);
+                curr = novo; // um equivalente posterior no lote entra antes deste, ou o remove
+                resultados.set(i, v);
+                alterouIndice = true;
+            } else if (curr != null && comparator.compare(curr.data, v) == 0) {
+                Node<T> removido = curr;
+                curr = curr.next;
+                desligar(removido);
+                resultados.set(i, removido.data);
+                alterouIndice = true;
+            }
+        }
+        if (indexada && alterouIndice) reconstruirIndice();
+        return resultados;
+    }
+
+    // ------------------------------------------------------------------
+    // Operações entre listas ordenadas e ordenação in-place
+    // ------------------------------------------------------------------
+
+    /**
+     * Move todos os elementos de {@code outra} para esta lista, em O(n + m): os nós de
+     * {@code outra} são religados (não copiados) conforme as duas listas são percorridas
+     * juntas, e {@code outra} fica vazia. O resultado é o mesmo de
+     * {@code adicionarTodos(outra)}: os que chegam entram antes dos equivalentes que já
+     * estavam aqui. As duas listas devem ser ordenadas pelo mesmo critério.
+     */
+    public void intercalar(GenericLinkedList<T> outra) {
+        exigirOrdenadas(outra);
+        if (outra == this) throw new IllegalArgumentException("Não é possível intercalar uma lista com ela mesma");
+        boolean alterou = outra.head != null;
+        Node<T> curr = head;
+        while (outra.head != null) {
+            Node<T> x = outra.head;
+            while (curr != null && comparator.compare(x.data, curr.data) > 0) curr = curr.next;
+            outra.desligar(x);
+            // mantém a altura sorteada na outra, se ela tinha índice; reconstruirIndice religa os níveis
+            if (!indexada) definirAltura(x, 1);
+            else if (!outra.indexada) definirAltura(x, sortearAltura());
+            ligarAntes(x, curr);
+        }
+        if (outra.indexada) { // os níveis da outra apontavam para nós que agora são desta
+            Arrays.fill(outra.cabecas, null);
+            Arrays.fill(outra.largurasCabeca, 1);
+            outra.niveis = 1;
+        }
+        if (indexada && alterou) reconstruirIndice();
+    }
+
+    /**
+     * União com {@code outra}, em uma nova lista ordenada (com índice se esta tiver), em
+     * O(n + m). Com repetidos, vale a semântica de multiconjunto: cada elemento aparece o
+     * máximo de vezes entre as duas listas; dos equivalentes presentes em ambas, ficam os
+     * desta lista. As listas não são alteradas.
+     */
+    public GenericLinkedList<T> uniao(GenericLinkedList<T> outra) {
+        return combinar(outra, true, true, true);
+    }
+
+    /**
+     * Elementos desta lista que também estão em {@code outra} (com repetidos, o mínimo de
+     * ocorrências entre as duas), em uma nova lista ordenada, em O(n + m).
+     */
+    public GenericLinkedList<T> intersecao(GenericLinkedList<T> outra) {
+        return combinar(outra, false, true, false);
+    }
+
+    /**
+     * Elementos desta lista que não estão em {@code outra} (com repetidos, cada ocorrência
+     * em {@code outra} cancela uma desta), em uma nova lista ordenada, em O(n + m).
+     */
+    public GenericLinkedList<T> diferenca(GenericLinkedList<T> outra) {
+        return combinar(outra, true, false, false);
+    }
+
+    /**
+     * Percorre as duas listas juntas. Para cada par de equivalentes (um de cada lista)
+     * copia o desta se {@code comuns}; para os que só existem de um lado, copia os desta
+     * se {@code soEsta} e os da outra se {@code soOutra}.
+     */
+    private GenericLinkedList<T> combinar(GenericLinkedList<T> outra, boolean soEsta, boolean comuns,
+                                          boolean soOutra) {
+        exigirOrdenadas(outra);
+        List<T> saida = new ArrayList<>();
+        Node<T> a = head;
+        Node<T> b = outra.head;
+        while (a != null && b != null) {
+            int cmp = comparator.compare(a.data, b.data);
+            if (cmp < 0) {
+                if (soEsta) saida.add(a.data);
+                a = a.next;
+            } else if (cmp > 0) {
+                if (soOutra) saida.add(b.data);
+                b = b.next;
+            } else {
+                if (comuns) saida.add(a.data);
+                a = a.next;
+                b = b.next;
+            }
+        }
+        for (; soEsta && a != null; a = a.next) saida.add(a.data);
+        for (; soOutra && b != null; b = b.next) saida.add(b.data);
+        GenericLinkedList<T> resultado = new GenericLinkedList<>(true, criterio, indexada);
+        resultado.adicionarTodos(saida); // já em ordem: só anexa
+        return resultado;
+    }
+
+    private void exigirOrdenadas(GenericLinkedList<T> outra) {
+        Objects.requireNonNull(outra, "Lista não pode ser null");
+        if (!ordered || !outra.ordered) {
+            throw new IllegalStateException("Operação disponível apenas entre listas ORDENADAS");
+        }
+    }
+
+    /**
+     * Ordena uma lista NÃO ordenada pelo comparator, religando os próprios nós
+     * (merge sort natural, de baixo para cima): cada passada intercala pares de
+     * sequências já crescentes, então custa O(n log r) para r sequências, O(n) se a
+     * lista já estiver em ordem, sem alocar memória. Estável. A lista continua não
+     * ordenada (inserções seguintes vão para o fim); em lista ordenada não faz nada.
+     */
+    public void ordenar() {
+        if (ordered || size < 2) return;
+        Node<T> primeiro = head;
+        while (true) {
+            Node<T> novoPrimeiro = null;
+            Node<T> cauda = null;
+            int intercalacoes = 0;
+            Node<T> p = primeiro;
+            while (p != null) {
+                // a = sequência crescente que começa em p; b = a seguinte
+                Node<T> a = p;
+                Node<T> fimA = fimDaSequencia(a);
+                Node<T> b = fimA.next;
+                fimA.next = null;
+                Node<T> fimB = null;
+                if (b != null) {
+                    fimB = fimDaSequencia(b);
+                    p = fimB.next;
+                    fimB.next = null;
+                    intercalacoes++;
+                } else {
+                    p = null;
+                }
+                while (a != null && b != null) { // em empate, a (da esquerda) primeiro
+                    Node<T> menor;
+                    if (comparator.compare(b.data, a.data) < 0) {
+                        menor = b;
+                        b = b.next;
+                    } else {
+                        menor = a;
+                        a = a.next;
+                    }
+                    if (cauda == null) novoPrimeiro = menor; else cauda.next = menor;
+                    cauda = menor;
+                }
+                Node<T> resto = a != null ? a : b;
+                if (cauda == null) novoPrimeiro = resto; else cauda.next = resto;
+                cauda = resto == a ? fimA : fimB;
+            }
+            primeiro = novoPrimeiro;
+            if (intercalacoes == 0) break;
+        }
+        // refaz prev e tail a partir da nova cadeia de next
+        Node<T> anterior = null;
+        for (Node<T> x = primeiro; x != null; x = x.next) {
+            x.prev = anterior;
+            anterior = x;
+        }
+        head = primeiro;
+        tail = anterior;
+        dedoNo = null;
+        modCount++;
+    }
+
+    private Node<T> fimDaSequencia(Node<T> x) {
+        while (x.next != null && comparator.compare(x.next.data, x.data) >= 0) x = x.next;
+        return x;
+    }
+
+    // ------------------------------------------------------------------
+    // Índice hash por chave (somente quando criado com extratorChave)
+    // ------------------------------------------------------------------
+
+    private void exigirIndiceChave() {
+        if (porChave == null) {
+            throw new IllegalStateException("Lista sem índice por chave; use o construtor com extratorChave.");
+        }
+    }
+
+    private void indexarChave(Node<T> no) {
+        if (porChave == null) return;
+        Node<T> existente = porChave.putIfAbsent(extratorChave.apply(no.data), no);
+        if (existente != null) existente.repetidas++;
+    }
+
+    /** Chamado com {@code no} ainda ligado à lista. */
+    private void desindexarChave(Node<T> no) {
+        Object chave = extratorChave.apply(no.data);
+        Node<T> indexado = porChave.get(chave);
+        if (indexado != no) { // era uma das repetidas
+            indexado.repetidas--;
+            return;
+        }
+        if (no.repetidas == 0) {
+            porChave.remove(chave);
+            return;
+        }
+        // Havia repetidas: promove a primeira ocorrência restante. O(n), só com chaves repetidas.
+        for (Node<T> x = head; x != null; x = x.next) {
+            if (x != no && Objects.equals(extratorChave.apply(x.data), chave)) {
+                x.repetidas = no.repetidas - 1;
+                porChave.put(chave, x);
+                return;
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Índice skip list (somente quando indexada == true)
+    // ------------------------------------------------------------------
+
+    private Node<T> primeiroNoNivel(int nivel) {
+        return nivel == 0 ? head : cabecas[nivel - 1];
+    }
+
+    private static <T> Node<T> proximoNoNivel(Node<T> x, int nivel) {
+        return nivel == 0 ? x.next : x.acima[nivel - 1];
+    }
+
+    /** Posições saltadas pelo link de {@code x} (null = início) no nível; 1 no nível 0. */
+    private int largura(Node<T> x, int nivel) {
+        if (nivel == 0) return 1;
+        return x == null ? largurasCabeca[nivel - 1] : x.larguras[nivel - 1];
+    }
+
+    private void definirLargura(Node<T> x, int nivel, int largura) {
+        if (x == null) largurasCabeca[nivel - 1] = largura; else x.larguras[nivel - 1] = largura;
+    }
+
+    private void ligarNivel(Node<T> x, int nivel, Node<T> destino) {
+        if (x == null) cabecas[nivel - 1] = destino; else x.acima[nivel - 1] = destino;
+    }
+
+    /** Nó seguinte a {@code pred} no nível 0; pred == null representa o início da lista. */
+    private Node<T> sucessor(Node<T> pred) {
+        return pred == null ? head : pred.next;
+    }
+
+    /**
+     * Desce pelos níveis procurando o último nó estritamente menor que {@code valor}.
+     * Se {@code preds} não for null, guarda o predecessor de cada nível (null = início)
+     * e sua posição em {@code posicoes}. Retorna o predecessor no nível 0.
+     */
+    private Node<T> buscarPredecessores(T valor, Node<T>[] preds) {
+        Node<T> x = null;
+        int pos = -1;
+        for (int nivel = niveis - 1; nivel >= 0; nivel--) {
+            Node<T> prox = (x == null) ? primeiroNoNivel(nivel) : proximoNoNivel(x, nivel);
+            while (prox != null && comparator.compare(prox.data, valor) < 0) {
+                if (preds != null) pos += largura(x, nivel);
+                x = prox;
+                prox = proximoNoNivel(x, nivel);
+            }
+            if (preds != null) {
+                preds[nivel] = x;
+                posicoes[nivel] = pos;
+            }
+        }
+        return x;
+    }
+
+    /** Altura geométrica com p = 1/4: em média 1,33 ponteiros por nó. */
+    private int sortearAltura() {
+        int x = semente;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        semente = x;
+        int altura = 1;
+        while (altura < MAX_NIVEIS && (x & 3) == 0) {
+            altura++;
+            x >>>= 2;
+        }
+        return altura;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void definirAltura(Node<T> x, int altura) {
+        x.acima = altura > 1 ? (Node<T>[]) new Node[altura - 1] : null;
+        x.larguras = altura > 1 ? new int[altura - 1] : null;
+    }
+
+    private static int altura(Node<?> x) {
+        return x.acima == null ? 1 : x.acima.length + 1;
+    }
+
+    private void adicionarIndexado(T novoValor) {
+        Node<T>[] preds = predecessores;
+        Node<T> pred = buscarPredecessores(novoValor, preds);
+
+        Node<T> novo = new Node<>(novoValor);
+        int h = sortearAltura();
+        definirAltura(novo, h);
+        while (niveis < h) { // níveis novos começam vazios
+            preds[niveis] = null;
+            posicoes[niveis++] = -1;
+        }
+
+        // nível 0: insere antes do primeiro >= novoValor (mesma regra de adicionar)
+        ligarAntes(novo, sucessor(pred));
+
+        int i = posicoes[0] + 1; // posição do novo
+        for (int nivel = 1; nivel < MAX_NIVEIS; nivel++) {
+            Node<T> p = nivel < niveis ? preds[nivel] : null;
+            int largura = largura(p, nivel);
+            if (nivel < h) {
+                int ate = i - (nivel < niveis ? posicoes[nivel] : -1);
+                novo.acima[nivel - 1] = proximoNoNivelOuCabeca(p, nivel);
+                ligarNivel(p, nivel, novo);
+                definirLargura(novo, nivel, largura - ate + 1);
+                definirLargura(p, nivel, ate);
+            } else {
+                definirLargura(p, nivel, largura + 1); // o link agora salta também o novo
+            }
+        }
+    }
+
+    private Node<T> proximoNoNivelOuCabeca(Node<T> x, int nivel) {
+        return x == null ? primeiroNoNivel(nivel) : proximoNoNivel(x, nivel);
+    }
+
+    private T removerIndexado(T valor) {
+        Node<T>[] preds = predecessores;
+        Node<T> pred = buscarPredecessores(valor, preds);
+        Node<T> alvo = sucessor(pred);
+        if (alvo == null || comparator.compare(alvo.data, valor) != 0) {
+            paradaAntecipada = alvo != null;
+            return null;
+        }
+        // alvo é o primeiro >= valor: os predecessores da descida são os dele em todos os níveis
+        desligarNiveis(alvo, preds);
+        desligar(alvo);
+        return alvo.data;
+    }
+
+    /**
+     * Desliga {@code alvo} dos níveis >= 1 do índice e desconta sua posição das larguras.
+     * Como pode haver equivalentes antes dele, desce até o último estritamente menor e
+     * depois avança no nível 0 sobre os equivalentes anteriores (por identidade),
+     * tomando-os como predecessores nos níveis de que participam.
+     */
+    private void desligarDoIndice(Node<T> alvo) {
+        Node<T>[] preds = predecessores;
+        Node<T> x = buscarPredecessores(alvo.data, preds);
+        for (Node<T> y = sucessor(x); y != alvo; y = y.next) {
+            for (int nivel = 1; nivel < altura(y); nivel++) preds[nivel] = y;
+        }
+        desligarNiveis(alvo, preds);
+    }
+
+    private void desligarNiveis(Node<T> alvo, Node<T>[] preds) {
+        int h = altura(alvo);
+        for (int nivel = 1; nivel < MAX_NIVEIS; nivel++) {
+            Node<T> p = nivel < niveis ? preds[nivel] : null;
+            if (nivel < h) {
+                ligarNivel(p, nivel, alvo.acima[nivel - 1]);
+                definirLargura(p, nivel, largura(p, nivel) + alvo.larguras[nivel - 1] - 1);
+            } else {
+                definirLargura(p, nivel, largura(p, nivel) - 1);
+            }
+        }
+        while (niveis > 1 && cabecas[niveis - 2] == null) niveis--;
+    }
+
+    /** Anexa um lote já ordenado (e maior que o tail) sem comparações, mantendo o índice. */
+    private void anexarIndexados(List<T> lote) {
+        Node<T>[] ultimos = predecessores; // último nó de cada nível
+        Arrays.fill(ultimos, null);
+        Node<T> x = null;
+        for (int nivel = niveis - 1; nivel >= 0; nivel--) {
+            Node<T> prox = (x == null) ? primeiroNoNivel(nivel) : proximoNoNivel(x, nivel);
+            while (prox != null) {
+                x = prox;
+                prox = proximoNoNivel(x, nivel);
+            }
+            ultimos[nivel] = x;
+        }
+        for (T v : lote) {
+            Node<T> novo = new Node<>(v);
+            int h = sortearAltura();
+            definirAltura(novo, h);
+            while (niveis < h) ultimos[niveis++] = null;
+            // o link do último de cada nível ia até o fim (size): no fim entra o novo, e a largura se mantém
+            for (int nivel = 1; nivel < MAX_NIVEIS; nivel++) {
+                Node<T> u = ultimos[nivel];
+                if (nivel < h) {
+                    ligarNivel(u, nivel, novo);
+                    definirLargura(novo, nivel, 1);
+                    ultimos[nivel] = novo;
+                } else {
+                    definirLargura(u, nivel, largura(u, nivel) + 1);
+                }
+            }
+            ligarAntes(novo, null);
+        }
+    }
+
+    /** Religa todos os níveis do índice percorrendo a lista uma vez, mantendo a altura de cada nó. */
+    private void reconstruirIndice() {
+        Node<T>[] ultimos = predecessores;
+        Arrays.fill(ultimos, null);
+        Arrays.fill(posicoes, -1);
+        Arrays.fill(cabecas, null);
+        int maior = 1;
+        int i = 0;
+        for (Node<T> x = head; x != null; x = x.next, i++) {
+            int h = altura(x);
+            if (h > maior) maior = h;
+            for (int nivel = 1; nivel < h; nivel++) {
+                Node<T> u = ultimos[nivel];
+                ligarNivel(u, nivel, x);
+                definirLargura(u, nivel, i - posicoes[nivel]);
+                ultimos[nivel] = x;
+                posicoes[nivel] = i;
+                x.acima[nivel - 1] = null;
+            }
+        }
+        for (int nivel = 1; nivel < MAX_NIVEIS; nivel++) {
+            definirLargura(ultimos[nivel], nivel, size - posicoes[nivel]);
+        }
+        niveis = maior;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -210,16 +1026,396 @@ public class GenericLinkedList<T> {
     }
 
 
-    // dentro de GenericLinkedList<T>
+    /**
+     * Elemento na posição {@code index}. Com índice skip list, desce pelas larguras dos
+     * níveis em O(log n) esperado quando o dedo, o head e o tail estão longe.
+     */
     public T obterPorIndice(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho=" + size);
         }
-        Node<T> curr = head;
-        for (int i = 0; i < index; i++) curr = curr.next;
-        return curr.data;
+        if (metricas == null) return noNaPosicao(index).data;
+        long inicio = iniciarMedicao();
+        T r = noNaPosicao(index).data;
+        concluirMedicao(OperacaoLista.OBTER_POR_INDICE, inicio);
+        return r;
+    }
+
+    /**
+     * Nó na posição {@code index} (0 <= index < size), caminhando a partir do ponto mais
+     * próximo entre head, tail e dedo, ou descendo pelo índice se a caminhada for longa.
+     * Atualiza o dedo.
+     */
+    private Node<T> noNaPosicao(int index) {
+        Node<T> x;
+        int i;
+        if (index <= size - 1 - index) { x = head; i = 0; }
+        else { x = tail; i = size - 1; }
+        if (dedoNo != null && Math.abs(index - dedoIndice) < Math.abs(index - i)) {
+            x = dedoNo;
+            i = dedoIndice;
+        }
+        if (indexada && Math.abs(index - i) > CAMINHADA_MAXIMA) {
+            x = descerAtePosicao(index);
+            i = index;
+        }
+        passos += Math.abs(index - i);
+        while (i < index) { x = x.next; i++; }
+        while (i > index) { x = x.prev; i--; }
+        dedoNo = x;
+        dedoIndice = index;
+        return x;
     }
 
+    /** Acima desta distância, noNaPosicao desce pelo índice em vez de caminhar no nível 0. */
+    private static final int CAMINHADA_MAXIMA = 32;
+
+    /** Desce pelos níveis somando larguras até a posição {@code index}; O(log n) esperado. */
+    private Node<T> descerAtePosicao(int index) {
+        Node<T> x = null;
+        int pos = -1;
+        for (int nivel = niveis - 1; nivel >= 0; nivel--) {
+            Node<T> prox = proximoNoNivelOuCabeca(x, nivel);
+            while (prox != null && pos + largura(x, nivel) <= index) {
+                pos += largura(x, nivel);
+                x = prox;
+                prox = proximoNoNivel(x, nivel);
+                passos++;
+            }
+            if (pos == index) break;
+        }
+        return x;
+    }
 
+    // ------------------------------------------------------------------
+    // Estatísticas de ordem e intervalos (lista ordenada)
+    // ------------------------------------------------------------------
 
+    /**
+     * Quantos elementos são estritamente menores que {@code valor} — a posição que ele
+     * ocuparia. Em lista ordenada com índice custa O(log n) esperado; sem índice,
+     * caminha até o primeiro >= valor. Em lista não ordenada, conta percorrendo tudo.
+     */
+    public int contarMenores(T valor) {
+        Objects.requireNonNull(valor, "Valor não pode ser null");
+        if (ordered) return contarAte(valor, false);
+        int n = 0;
+        for (Node<T> x = head; x != null; x = x.next) {
+            if (comparator.compare(x.data, valor) < 0) n++;
+        }
+        return n;
+    }
+
+    /** Posição do primeiro elemento equivalente a {@code valor}, ou -1 se não houver. */
+    public int indiceDe(T valor) {
+        Objects.requireNonNull(valor, "Valor não pode ser null");
+        if (!ordered) {
+            int i = 0;
+            for (Node<T> x = head; x != null; x = x.next, i++) {
+                if (comparator.compare(x.data, valor) == 0) return i;
+            }
+            return -1;
+        }
+        int i = contarAte(valor, false);
+        return i < size && comparator.compare(noNaPosicao(i).data, valor) == 0 ? i : -1;
+    }
+
+    /** Quantos elementos estão no intervalo fechado [de, ate]; O(log n) esperado com índice. */
+    public int contarEntre(T de, T ate) {
+        exigirIntervalo(de, ate);
+        return contarAte(ate, true) - contarAte(de, false);
+    }
+
+    /**
+     * Visão preguiçosa e não modificável dos elementos no intervalo fechado [de, ate],
+     * em ordem. Nada é copiado: cada iteração localiza o primeiro >= de (descendo pelo
+     * índice, se houver) e segue o nível 0 até passar de {@code ate}; {@code size()}
+     * usa as larguras do índice. Reflete o estado atual da lista, e um iterador falha
+     * com ConcurrentModificationException se a lista mudar durante o uso.
+     */
+    public Collection<T> entre(T de, T ate) {
+        exigirIntervalo(de, ate);
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<T> iterator() {
+                return new Iterator<>() {
+                    private final int modEsperado = modCount;
+                    private Node<T> proximo = dentro(primeiroMaiorOuIgual(de));
+
+                    private Node<T> dentro(Node<T> x) {
+                        return x != null && comparator.compare(x.data, ate) <= 0 ? x : null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return proximo != null;
+                    }
+
+                    @Override
+                    public T next() {
+                        if (modCount != modEsperado) throw new ConcurrentModificationException();
+                        if (proximo == null) throw new NoSuchElementException();
+                        T v = proximo.data;
+                        proximo = dentro(proximo.next);
+                        return v;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return contarEntre(de, ate);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                Node<T> x = primeiroMaiorOuIgual(de);
+                return x == null || comparator.compare(x.data, ate) > 0;
+            }
+        };
+    }
+
+    private void exigirIntervalo(T de, T ate) {
+        Objects.requireNonNull(de, "Início do intervalo não pode ser null");
+        Objects.requireNonNull(ate, "Fim do intervalo não pode ser null");
+        if (!ordered) {
+            throw new IllegalStateException("Consulta por intervalo disponível apenas em lista ORDENADA");
+        }
+        if (comparator.compare(de, ate) > 0) {
+            throw new IllegalArgumentException("Intervalo vazio: início maior que o fim");
+        }
+    }
+
+    /** Primeiro nó >= valor (lista ordenada), ou null. */
+    private Node<T> primeiroMaiorOuIgual(T valor) {
+        if (indexada) return sucessor(buscarPredecessores(valor, null));
+        Node<T> x = head;
+        while (x != null && comparator.compare(x.data, valor) < 0) x = x.next;
+        return x;
+    }
+
+    /** Em lista ordenada: quantos são < valor (ou <= valor, se {@code incluirIguais}). */
+    private int contarAte(T valor, boolean incluirIguais) {
+        int limite = incluirIguais ? 0 : -1; // avança enquanto compare(x, valor) <= limite
+        int pos = -1;
+        if (indexada) {
+            Node<T> x = null;
+            for (int nivel = niveis - 1; nivel >= 0; nivel--) {
+                Node<T> prox = proximoNoNivelOuCabeca(x, nivel);
+                while (prox != null && comparator.compare(prox.data, valor) <= limite) {
+                    pos += largura(x, nivel);
+                    x = prox;
+                    prox = proximoNoNivel(x, nivel);
+                }
+            }
+        } else {
+            for (Node<T> x = head; x != null && comparator.compare(x.data, valor) <= limite; x = x.next) pos++;
+        }
+        return pos + 1;
+    }
+
+    // ------------------------------------------------------------------
+    // Iteração e streams
+    // ------------------------------------------------------------------
+
+    /** Iterador fail-fast; remove() desliga o último nó devolvido em O(1). */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Spliterator ORDERED, SIZED, SUBSIZED e NONNULL (e SORTED, com o comparator da
+     * lista, se ela for ordenada). Cada divisão copia o próximo lote de nós para um
+     * array — de tamanho crescente, como em java.util.LinkedList —, que pode então ser
+     * processado por outra thread sem tocar nos ponteiros da lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Divisor();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private int caracteristicas() {
+        int c = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        return ordered ? c | Spliterator.SORTED : c;
+    }
+
+    private class Iterador implements Iterator<T> {
+        private Node<T> proximo = head;
+        private Node<T> ultimo; // devolvido por next(), candidato a remove()
+        private int modEsperado = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return proximo != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != modEsperado) throw new ConcurrentModificationException();
+            if (proximo == null) throw new NoSuchElementException();
+            ultimo = proximo;
+            proximo = proximo.next;
+            return ultimo.data;
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) throw new IllegalStateException("next() não foi chamado");
+            if (modCount != modEsperado) throw new ConcurrentModificationException();
+            removerNo(ultimo);
+            ultimo = null;
+            modEsperado = modCount;
+        }
+    }
+
+    private static final int LOTE_UNIDADE = 1 << 10;
+    private static final int LOTE_MAXIMO = 1 << 25;
+
+    private class Divisor implements Spliterator<T> {
+        private Node<T> atual;
+        private int restante = -1; // -1 => ainda não vinculado à lista (late-binding)
+        private int lote;
+        private int modEsperado;
+
+        private int restante() {
+            if (restante < 0) {
+                atual = head;
+                restante = size;
+                modEsperado = modCount;
+            }
+            return restante;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int r = restante();
+            if (r <= 1 || atual == null) return null;
+            int n = Math.min(Math.min(lote + LOTE_UNIDADE, LOTE_MAXIMO), r);
+            Object[] copia = new Object[n];
+            Node<T> x = atual;
+            for (int i = 0; i < n; i++) {
+                copia[i] = x.data;
+                x = x.next;
+            }
+            atual = x;
+            restante = r - n;
+            lote = n;
+            return new LoteCopiado<>(copia, caracteristicas(), criterio);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> acao) {
+            Objects.requireNonNull(acao);
+            if (restante() <= 0 || atual == null) return false;
+            T v = atual.data;
+            atual = atual.next;
+            restante--;
+            acao.accept(v);
+            if (modCount != modEsperado) throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> acao) {
+            Objects.requireNonNull(acao);
+            int r = restante();
+            Node<T> x = atual;
+            atual = null;
+            restante = 0;
+            for (; r > 0 && x != null; r--) {
+                acao.accept(x.data);
+                x = x.next;
+            }
+            if (modCount != modEsperado) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return restante();
+        }
+
+        @Override
+        public int characteristics() {
+            return caracteristicas();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            if (!ordered) throw new IllegalStateException();
+            return criterio;
+        }
+    }
+
+    /** Lote já copiado para um array; também informa o comparator quando SORTED. */
+    private static final class LoteCopiado<T> implements Spliterator<T> {
+        private final Object[] elementos;
+        private final int caracteristicas;
+        private final Comparator<? super T> comparator;
+        private int inicio;
+        private final int fim;
+
+        LoteCopiado(Object[] elementos, int caracteristicas, Comparator<? super T> comparator) {
+            this(elementos, 0, elementos.length, caracteristicas, comparator);
+        }
+
+        private LoteCopiado(Object[] elementos, int inicio, int fim, int caracteristicas,
+                            Comparator<? super T> comparator) {
+            this.elementos = elementos;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.caracteristicas = caracteristicas;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int meio = (inicio + fim) >>> 1;
+            if (meio <= inicio) return null;
+            LoteCopiado<T> prefixo = new LoteCopiado<>(elementos, inicio, meio, caracteristicas, comparator);
+            inicio = meio;
+            return prefixo;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> acao) {
+            Objects.requireNonNull(acao);
+            if (inicio >= fim) return false;
+            acao.accept((T) elementos[inicio++]);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> acao) {
+            Objects.requireNonNull(acao);
+            for (int i = inicio; i < fim; i++) acao.accept((T) elementos[i]);
+            inicio = fim;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fim - inicio;
+        }
+
+        @Override
+        public int characteristics() {
+            return caracteristicas;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            if ((caracteristicas & Spliterator.SORTED) == 0) throw new IllegalStateException();
+            return comparator;
+        }
+    }
 }
\ No newline at end of file
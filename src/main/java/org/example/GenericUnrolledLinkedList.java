@@ -0,0 +1,433 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Variante "desenrolada" (unrolled) da {@link GenericLinkedList}: cada nó guarda um
+ * pequeno vetor de até {@code capacidadeBloco} elementos em vez de um só. Percorrer
+ * a lista salta de bloco em bloco (n / capacidade saltos, com os elementos de cada
+ * bloco contíguos na memória), e há um objeto nó a cada bloco, não a cada elemento.
+ *
+ * Mesmos modos e contrato de comparação da GenericLinkedList:
+ * - ordenada: mantém ordem crescente pelo Comparator; um elemento novo entra antes
+ *   dos equivalentes já presentes. Buscas pulam blocos comparando só o último
+ *   elemento de cada um e fazem busca binária dentro do bloco.
+ * - não ordenada: adicionar insere no fim; adicionarPosicao insere na posição.
+ *
+ * Bloco cheio é dividido ao meio (split); bloco que fica com menos da metade da
+ * capacidade é fundido com um vizinho quando os dois cabem em um bloco (merge), o
+ * que mantém a ocupação média acima de 50%.
+ */
+public class GenericUnrolledLinkedList<T> implements Iterable<T> {
+    private static final int CAPACIDADE_PADRAO = 64;
+
+    private static final class Bloco<T> {
+        final Object[] itens;
+        int n;
+        Bloco<T> next;
+        Bloco<T> prev;
+
+        Bloco(int capacidade) { itens = new Object[capacidade]; }
+
+        @SuppressWarnings("unchecked")
+        T get(int i) { return (T) itens[i]; }
+
+        T ultimo() { return get(n - 1); }
+    }
+
+    /** Posição de um elemento: bloco e índice dentro do bloco. */
+    private record Posicao<T>(Bloco<T> bloco, int indice) {}
+
+    private Bloco<T> head;
+    private Bloco<T> tail;
+    private int size;
+    private int modCount; // alterações estruturais, para iteradores fail-fast
+
+    private final boolean ordered;
+    private final Comparator<? super T> comparator;
+    private final int capacidadeBloco;
+
+    /**
+     * @param ordered    se true, a lista mantém ordem crescente definida pelo comparator
+     * @param comparator critério de comparação (não pode ser null)
+     */
+    public GenericUnrolledLinkedList(boolean ordered, Comparator<? super T> comparator) {
+        this(ordered, comparator, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * @param capacidadeBloco elementos por bloco (>= 4)
+     */
+    public GenericUnrolledLinkedList(boolean ordered, Comparator<? super T> comparator, int capacidadeBloco) {
+        if (capacidadeBloco < 4) {
+            throw new IllegalArgumentException("Capacidade de bloco deve ser >= 4: " + capacidadeBloco);
+        }
+        this.ordered = ordered;
+        this.comparator = Objects.requireNonNull(comparator, "Comparator não pode ser null");
+        this.capacidadeBloco = capacidadeBloco;
+    }
+
+    public boolean isOrdenada() { return ordered; }
+    public int tamanho() { return size; }
+    public Comparator<? super T> getComparator() { return comparator; }
+
+    /**
+     * Adiciona um elemento. Em lista ordenada, insere na posição correta (antes dos
+     * equivalentes). Em lista não ordenada, insere no fim.
+     */
+    public void adicionar(T novoValor) {
+        Objects.requireNonNull(novoValor, "Valor não pode ser null");
+        if (!ordered || tail == null || comparator.compare(novoValor, tail.ultimo()) > 0) {
+            anexar(novoValor);
+            return;
+        }
+        Bloco<T> b = primeiroBlocoNaoMenor(novoValor);
+        inserirNoBloco(b, limiteInferior(b, novoValor), novoValor);
+    }
+
+    /**
+     * Adiciona todos os elementos do lote de uma só vez.
+     * Em lista não ordenada, equivale a adicionar cada um no fim.
+     * Em lista ordenada, o lote é ordenado (estável) e, se vier inteiro depois do
+     * último elemento, anexado em blocos cheios; senão é intercalado com a lista em
+     * uma única passada (O(n + m)), que também reempacota os blocos.
+     */
+    public void adicionarTodos(Iterable<? extends T> valores) {
+        Objects.requireNonNull(valores, "Lote não pode ser null");
+        if (!ordered) {
+            for (T v : valores) anexar(Objects.requireNonNull(v, "Valor não pode ser null"));
+            return;
+        }
+
+        List<T> lote = new ArrayList<>();
+        boolean emOrdem = true;
+        for (T v : valores) {
+            Objects.requireNonNull(v, "Valor não pode ser null");
+            if (emOrdem && !lote.isEmpty() && comparator.compare(lote.get(lote.size() - 1), v) > 0) {
+                emOrdem = false;
+            }
+            lote.add(v);
+        }
+        if (lote.isEmpty()) return;
+        if (!emOrdem) lote.sort(comparator);
+
+        if (tail == null || comparator.compare(lote.get(0), tail.ultimo()) > 0) {
+            for (T v : lote) anexar(v);
+            return;
+        }
+
+        // Intercalação: a lista antiga é relida bloco a bloco e regravada em blocos cheios
+        Bloco<T> b = head;
+        int i = 0;
+        head = tail = null;
+        size = 0;
+        for (T v : lote) {
+            while (b != null && comparator.compare(v, b.get(i)) > 0) {
+                anexar(b.get(i));
+                if (++i == b.n) { b = b.next; i = 0; }
+            }
+            anexar(v); // novos antes dos equivalentes já presentes
+        }
+        while (b != null) {
+            anexar(b.get(i));
+            if (++i == b.n) { b = b.next; i = 0; }
+        }
+    }
+
+    /**
+     * Insere um elemento em uma posição específica [0..size].
+     * Em lista ordenada não é permitido (IllegalStateException), como na GenericLinkedList.
+     */
+    public void adicionarPosicao(int index, T valor) {
+        if (ordered) {
+            throw new IllegalStateException(
+                    "Inserção por posição não permitida em lista ORDENADA; use adicionar(T) para manter a ordem.");
+        }
+        Objects.requireNonNull(valor, "Valor não pode ser null");
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Índice fora do intervalo: " + index + " (tamanho=" + size + ")");
+        }
+        if (index == size) {
+            anexar(valor);
+            return;
+        }
+        Posicao<T> p = posicao(index);
+        inserirNoBloco(p.bloco(), p.indice(), valor);
+    }
+
+    /**
+     * Retorna true se encontrar um elemento equivalente segundo o Comparator.
+     */
+    public boolean contemElemento(T valor) {
+        return pesquisar(valor) != null;
+    }
+
+    /**
+     * Busca e retorna a referência armazenada equivalente a {@code valor}, ou null.
+     * Em lista ordenada, pula blocos inteiros e faz busca binária no bloco candidato.
+     */
+    public T pesquisar(T valor) {
+        Objects.requireNonNull(valor, "Valor de busca não pode ser null");
+        Posicao<T> p = localizar(valor);
+        return p == null ? null : p.bloco().get(p.indice());
+    }
+
+    /**
+     * Remove o primeiro elemento equivalente a {@code valor} e o retorna;
+     * retorna null se não encontrar.
+     */
+    public T remover(T valor) {
+        Objects.requireNonNull(valor, "Valor de remoção não pode ser null");
+        Posicao<T> p = localizar(valor);
+        if (p == null) return null;
+        T removido = p.bloco().get(p.indice());
+        removerDe(p.bloco(), p.indice());
+        return removido;
+    }
+
+    public T obterPorIndice(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho=" + size);
+        }
+        Posicao<T> p = posicao(index);
+        return p.bloco().get(p.indice());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (Bloco<T> b = head; b != null; b = b.next) {
+            for (int i = 0; i < b.n; i++) {
+                sb.append(b.itens[i]);
+                if (i < b.n - 1 || b.next != null) sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ------------------------------------------------------------------
+    // Blocos
+    // ------------------------------------------------------------------
+
+    /** Insere no fim; abre um bloco novo só quando o último está cheio (blocos ficam cheios). */
+    private void anexar(T valor) {
+        if (tail == null || tail.n == capacidadeBloco) ligarBlocoDepois(new Bloco<>(capacidadeBloco), tail);
+        tail.itens[tail.n++] = valor;
+        size++;
+        modCount++;
+    }
+
+    /** Insere em {@code b[i]} (0 <= i <= b.n), dividindo o bloco ao meio se estiver cheio. */
+    private void inserirNoBloco(Bloco<T> b, int i, T valor) {
+        if (b.n == capacidadeBloco) {
+            Bloco<T> novo = new Bloco<>(capacidadeBloco);
+            int metade = capacidadeBloco / 2;
+            novo.n = b.n - metade;
+            System.arraycopy(b.itens, metade, novo.itens, 0, novo.n);
+            Arrays.fill(b.itens, metade, b.n, null);
+            b.n = metade;
+            ligarBlocoDepois(novo, b);
+            if (i > metade) {
+                b = novo;
+                i -= metade;
+            }
+        }
+        System.arraycopy(b.itens, i, b.itens, i + 1, b.n - i);
+        b.itens[i] = valor;
+        b.n++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Remove {@code b[i]}. Se o bloco fica com menos da metade, funde com o próximo
+     * (ou com o anterior) quando cabem juntos em um bloco. Retorna a posição do
+     * elemento que vinha logo depois do removido (bloco null => fim da lista).
+     */
+    private Posicao<T> removerDe(Bloco<T> b, int i) {
+        System.arraycopy(b.itens, i + 1, b.itens, i, b.n - i - 1);
+        b.itens[--b.n] = null;
+        size--;
+        modCount++;
+
+        if (b.n == 0) {
+            Bloco<T> seguinte = b.next;
+            desligarBloco(b);
+            return new Posicao<>(seguinte, 0);
+        }
+        if (b.n < capacidadeBloco / 2) {
+            if (b.next != null && b.n + b.next.n <= capacidadeBloco) {
+                fundir(b, b.next); // o seguinte ao removido continua em b[i]
+            } else if (b.prev != null && b.prev.n + b.n <= capacidadeBloco) {
+                Bloco<T> anterior = b.prev;
+                i += anterior.n;
+                fundir(anterior, b);
+                b = anterior;
+            }
+        }
+        return i < b.n ? new Posicao<>(b, i) : new Posicao<>(b.next, 0);
+    }
+
+    /** Acrescenta os elementos de {@code segundo} ao fim de {@code primeiro} e descarta {@code segundo}. */
+    private void fundir(Bloco<T> primeiro, Bloco<T> segundo) {
+        System.arraycopy(segundo.itens, 0, primeiro.itens, primeiro.n, segundo.n);
+        primeiro.n += segundo.n;
+        desligarBloco(segundo);
+    }
+
+    private void ligarBlocoDepois(Bloco<T> novo, Bloco<T> anterior) {
+        Bloco<T> seguinte = (anterior == null) ? head : anterior.next;
+        novo.prev = anterior;
+        novo.next = seguinte;
+        if (anterior == null) head = novo; else anterior.next = novo;
+        if (seguinte == null) tail = novo; else seguinte.prev = novo;
+    }
+
+    private void desligarBloco(Bloco<T> b) {
+        if (b.prev == null) head = b.next; else b.prev.next = b.next;
+        if (b.next == null) tail = b.prev; else b.next.prev = b.prev;
+    }
+
+    /** Lista ordenada: primeiro bloco cujo último elemento é >= valor (ou o tail). */
+    private Bloco<T> primeiroBlocoNaoMenor(T valor) {
+        Bloco<T> b = head;
+        while (b.next != null && comparator.compare(valor, b.ultimo()) > 0) b = b.next;
+        return b;
+    }
+
+    /** Primeira posição de {@code b} cujo elemento é >= valor (busca binária). */
+    private int limiteInferior(Bloco<T> b, T valor) {
+        int lo = 0, hi = b.n;
+        while (lo < hi) {
+            int meio = (lo + hi) >>> 1;
+            if (comparator.compare(b.get(meio), valor) < 0) lo = meio + 1;
+            else hi = meio;
+        }
+        return lo;
+    }
+
+    /** Posição do primeiro elemento equivalente a {@code valor}, ou null. */
+    private Posicao<T> localizar(T valor) {
+        if (head == null) return null;
+        if (ordered) {
+            Bloco<T> b = primeiroBlocoNaoMenor(valor);
+            int i = limiteInferior(b, valor);
+            return (i < b.n && comparator.compare(b.get(i), valor) == 0) ? new Posicao<>(b, i) : null;
+        }
+        for (Bloco<T> b = head; b != null; b = b.next) {
+            Object[] itens = b.itens;
+            for (int i = 0, n = b.n; i < n; i++) {
+                @SuppressWarnings("unchecked") T x = (T) itens[i];
+                if (comparator.compare(x, valor) == 0) return new Posicao<>(b, i);
+            }
+        }
+        return null;
+    }
+
+    /** Bloco e deslocamento do índice (0 <= index < size), a partir do head ou do tail. */
+    private Posicao<T> posicao(int index) {
+        if (index < size / 2) {
+            Bloco<T> b = head;
+            while (index >= b.n) { index -= b.n; b = b.next; }
+            return new Posicao<>(b, index);
+        }
+        Bloco<T> b = tail;
+        int fim = size - 1 - index; // distância a partir do último elemento
+        while (fim >= b.n) { fim -= b.n; b = b.prev; }
+        return new Posicao<>(b, b.n - 1 - fim);
+    }
+
+    // ------------------------------------------------------------------
+    // Iteração e streams
+    // ------------------------------------------------------------------
+
+    /** Iterador fail-fast; remove() apaga o último elemento devolvido (com merge, se preciso). */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Spliterator ORDERED, SIZED e NONNULL (e SORTED, com o comparator da lista, se
+     * ela for ordenada); divide em lotes copiados para arrays.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        int c = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL;
+        Iterator<T> it = iterator();
+        return new Spliterators.AbstractSpliterator<T>(size, ordered ? c | Spliterator.SORTED : c) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> acao) {
+                if (!it.hasNext()) return false;
+                acao.accept(it.next());
+                return true;
+            }
+
+            @Override
+            public Comparator<? super T> getComparator() {
+                if (!ordered) throw new IllegalStateException();
+                return comparator;
+            }
+        };
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private class Iterador implements Iterator<T> {
+        private Bloco<T> bloco = head;
+        private int indice;
+        private boolean podeRemover;
+        private int modEsperado = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return bloco != null && indice < bloco.n;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != modEsperado) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            T valor = bloco.get(indice++);
+            if (indice == bloco.n && bloco.next != null) { bloco = bloco.next; indice = 0; }
+            podeRemover = true;
+            return valor;
+        }
+
+        @Override
+        public void remove() {
+            if (!podeRemover) throw new IllegalStateException("next() não foi chamado");
+            if (modCount != modEsperado) throw new ConcurrentModificationException();
+            // o último devolvido está logo antes do cursor (no fim do bloco anterior, se indice == 0)
+            Bloco<T> b = bloco;
+            int i = indice - 1;
+            if (i < 0) { b = bloco.prev; i = b.n - 1; }
+            Posicao<T> p = removerDe(b, i);
+            bloco = p.bloco();
+            indice = p.indice();
+            if (bloco == null) { bloco = tail; indice = tail == null ? 0 : tail.n; }
+            podeRemover = false;
+            modEsperado = modCount;
+        }
+    }
+}
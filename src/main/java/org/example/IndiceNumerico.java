@@ -0,0 +1,97 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Índice secundário por um campo numérico (ex.: nota) sobre uma {@link GenericLinkedList},
+ * nos moldes de {@link IndiceTexto}: uma {@link TreeMap} da chave para as mesmas
+ * instâncias da lista, acompanhando a lista como {@link ObservadorLista}.
+ *
+ * Com ele, "os 100 alunos de maior nota" custa O(log n + k) em vez de ordenar a lista
+ * inteira a cada consulta, e o mesmo vale para as menores chaves e para uma faixa
+ * [min, max]. Empates ficam juntos em um {@link Repetidos} e saem na ordem em que os
+ * elementos entraram; retirar um deles é O(1) mesmo que quase todos tenham a mesma
+ * chave (ex.: nota 0, o padrão do Main2).
+ *
+ * A chave de um elemento não deve mudar enquanto ele está na lista. Assim como a lista,
+ * não é thread-safe.
+ */
+public class IndiceNumerico<T> {
+    private final GenericLinkedList<T> lista;
+    private final ToDoubleFunction<? super T> chaveDe;
+    private final TreeMap<Double, Object> indice = new TreeMap<>(); // valor: T ou Repetidos<T>
+    private int tamanho;
+
+    private final ObservadorLista<T> sincronizador = new ObservadorLista<>() {
+        @Override public void aoAdicionar(T valor) { inserir(valor); }
+        @Override public void aoRemover(T valor) { retirar(valor); }
+    };
+
+    /** @param chaveDe extrai a chave numérica de cada elemento (ex.: {@code Aluno::getNota}) */
+    public IndiceNumerico(GenericLinkedList<T> lista, ToDoubleFunction<? super T> chaveDe) {
+        this.lista = Objects.requireNonNull(lista, "Lista não pode ser null");
+        this.chaveDe = Objects.requireNonNull(chaveDe, "Extrator de chave não pode ser null");
+        for (T v : lista) inserir(v);
+        lista.adicionarObservador(sincronizador);
+    }
+
+    /** Índice de alunos por nota. */
+    public static IndiceNumerico<Aluno> porNota(GenericLinkedList<Aluno> lista) {
+        return new IndiceNumerico<>(lista, Aluno::getNota);
+    }
+
+    /** Número de elementos indexados (igual ao tamanho da lista). */
+    public int tamanho() { return tamanho; }
+
+    /** Quantidade de chaves distintas. */
+    public int distintos() { return indice.size(); }
+
+    /** Até {@code k} elementos de maior chave, da maior para a menor; O(log n + k). */
+    public List<T> maiores(int k) {
+        return coletar(indice.descendingMap(), k);
+    }
+
+    /** Até {@code k} elementos de menor chave, da menor para a maior; O(log n + k). */
+    public List<T> menores(int k) {
+        return coletar(indice, k);
+    }
+
+    /** Elementos com chave no intervalo fechado [min, max], em ordem crescente de chave. */
+    public List<T> entre(double min, double max) {
+        if (!(min <= max)) throw new IllegalArgumentException("Intervalo inválido: [" + min + ", " + max + "]");
+        return coletar(indice.subMap(min, true, max, true), Integer.MAX_VALUE);
+    }
+
+    /** Deixa de acompanhar a lista e descarta o índice. */
+    public void desligar() {
+        lista.removerObservador(sincronizador);
+        indice.clear();
+        tamanho = 0;
+    }
+
+    private List<T> coletar(NavigableMap<Double, Object> faixa, int limite) {
+        if (limite < 0) throw new IllegalArgumentException("Limite inválido: " + limite);
+        List<T> r = new ArrayList<>(Math.min(limite, 16));
+        for (Map.Entry<Double, Object> e : faixa.entrySet()) {
+            if (r.size() >= limite) break;
+            Repetidos.acumular(e.getValue(), r, limite);
+        }
+        return r;
+    }
+
+    private void inserir(T valor) {
+        Repetidos.inserir(indice, chaveDe.applyAsDouble(valor), valor);
+        tamanho++;
+    }
+
+    /** Retira a instância {@code valor} (por identidade) da sua chave. */
+    private void retirar(T valor) {
+        if (Repetidos.retirar(indice, chaveDe.applyAsDouble(valor), valor)) tamanho--;
+    }
+}
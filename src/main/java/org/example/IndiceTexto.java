@@ -0,0 +1,136 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Índice secundário por um campo de texto (ex.: nome) sobre uma {@link GenericLinkedList}.
+ *
+ * Os elementos continuam só na lista; o índice guarda, em uma {@link TreeMap} ordenada
+ * pelo texto, referências para as mesmas instâncias. Assim, buscar pelo texto exato
+ * custa O(log n) e buscar por prefixo ("Ana S") custa O(log n + k) para k resultados,
+ * sem uma segunda lista ordenada por nome.
+ *
+ * Cada chave aponta para o próprio elemento ou, se houver repetidos, para um grupo
+ * deles ({@link Repetidos}, na ordem em que entraram).
+ *
+ * O índice é montado com os elementos já presentes e se registra como
+ * {@link ObservadorLista}, acompanhando adições e remoções na lista. Se o texto de um
+ * elemento mudar enquanto ele está na lista (ex.: {@link Aluno#setNome}), avise com
+ * {@link #atualizar}. Assim como a lista, não é thread-safe.
+ */
+public class IndiceTexto<T> {
+    private final GenericLinkedList<T> lista;
+    private final Function<? super T, String> textoDe;
+    private final boolean ignorarCaixa;
+    private final TreeMap<String, Object> indice; // valor: T ou Repetidos<T>
+    private int tamanho;
+
+    private final ObservadorLista<T> sincronizador = new ObservadorLista<>() {
+        @Override public void aoAdicionar(T valor) { inserir(textoDe.apply(valor), valor); }
+        @Override public void aoRemover(T valor) { retirar(textoDe.apply(valor), valor); }
+    };
+
+    /**
+     * @param textoDe      extrai o texto indexado de cada elemento (ex.: {@code Aluno::getNome})
+     * @param ignorarCaixa se true, "ana s" encontra "Ana Silva"
+     */
+    public IndiceTexto(GenericLinkedList<T> lista, Function<? super T, String> textoDe, boolean ignorarCaixa) {
+        this.lista = Objects.requireNonNull(lista, "Lista não pode ser null");
+        this.textoDe = Objects.requireNonNull(textoDe, "Extrator de texto não pode ser null");
+        this.ignorarCaixa = ignorarCaixa;
+        this.indice = ignorarCaixa ? new TreeMap<>(String.CASE_INSENSITIVE_ORDER) : new TreeMap<>();
+        for (T v : lista) inserir(textoDe.apply(v), v);
+        lista.adicionarObservador(sincronizador);
+    }
+
+    /** Índice de alunos por nome, sem diferenciar maiúsculas de minúsculas. */
+    public static IndiceTexto<Aluno> porNome(GenericLinkedList<Aluno> lista) {
+        return new IndiceTexto<>(lista, Aluno::getNome, true);
+    }
+
+    /** Número de elementos indexados (igual ao tamanho da lista). */
+    public int tamanho() { return tamanho; }
+
+    /** Quantidade de textos distintos. */
+    public int distintos() { return indice.size(); }
+
+    /** Elementos cujo texto é exatamente {@code texto} (a menos da caixa, se ignorada). */
+    public List<T> buscar(String texto) {
+        Objects.requireNonNull(texto, "Texto não pode ser null");
+        Object v = indice.get(texto);
+        if (v == null) return List.of();
+        List<T> r = new ArrayList<>(Repetidos.contar(v));
+        Repetidos.acumular(v, r, Integer.MAX_VALUE);
+        return r;
+    }
+
+    /** Primeiro elemento com o texto exato, ou null. */
+    public T buscarPrimeiro(String texto) {
+        Objects.requireNonNull(texto, "Texto não pode ser null");
+        return Repetidos.primeiro(indice.get(texto));
+    }
+
+    /**
+     * Até {@code limite} elementos cujo texto começa com {@code prefixo}, em ordem
+     * do texto. Custa O(log n + limite), qualquer que seja o tamanho da lista.
+     */
+    public List<T> buscarPrefixo(String prefixo, int limite) {
+        Objects.requireNonNull(prefixo, "Prefixo não pode ser null");
+        if (limite < 0) throw new IllegalArgumentException("Limite inválido: " + limite);
+        List<T> r = new ArrayList<>(Math.min(limite, 16));
+        for (Map.Entry<String, Object> e : indice.tailMap(prefixo, true).entrySet()) {
+            if (r.size() >= limite || !comecaCom(e.getKey(), prefixo)) break;
+            Repetidos.acumular(e.getValue(), r, limite);
+        }
+        return r;
+    }
+
+    /** Número de elementos cujo texto começa com {@code prefixo}; O(log n + textos distintos casados). */
+    public int contarPrefixo(String prefixo) {
+        Objects.requireNonNull(prefixo, "Prefixo não pode ser null");
+        int n = 0;
+        for (Map.Entry<String, Object> e : indice.tailMap(prefixo, true).entrySet()) {
+            if (!comecaCom(e.getKey(), prefixo)) break;
+            n += Repetidos.contar(e.getValue());
+        }
+        return n;
+    }
+
+    /**
+     * Reindexa {@code valor} depois que seu texto mudou de {@code textoAntigo} para o atual.
+     * Deve ser chamado para elementos que estão na lista.
+     */
+    public void atualizar(T valor, String textoAntigo) {
+        Objects.requireNonNull(valor, "Valor não pode ser null");
+        if (retirar(textoAntigo, valor)) inserir(textoDe.apply(valor), valor);
+    }
+
+    /** Deixa de acompanhar a lista e descarta o índice. */
+    public void desligar() {
+        lista.removerObservador(sincronizador);
+        indice.clear();
+        tamanho = 0;
+    }
+
+    private void inserir(String texto, T valor) {
+        Objects.requireNonNull(texto, "Texto indexado não pode ser null");
+        Repetidos.inserir(indice, texto, valor);
+        tamanho++;
+    }
+
+    /** Retira a instância {@code valor} (por identidade) da chave {@code texto}. */
+    private boolean retirar(String texto, T valor) {
+        if (!Repetidos.retirar(indice, texto, valor)) return false;
+        tamanho--;
+        return true;
+    }
+
+    private boolean comecaCom(String texto, String prefixo) {
+        return texto.regionMatches(ignorarCaixa, 0, prefixo, 0, prefixo.length());
+    }
+}
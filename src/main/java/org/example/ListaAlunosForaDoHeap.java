@@ -0,0 +1,343 @@
+package org.example;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Lista de alunos guardada fora do heap, em {@link MemorySegment}s da API FFM
+ * (java.lang.foreign): o heap só vê este objeto e dois segmentos, então o custo
+ * de GC não cresce com o número de alunos.
+ *
+ * Cada aluno é um registro de 16 bytes em um vetor contíguo:
+ * <pre>
+ * int matrícula | float nota | long (posição do nome na arena &lt;&lt; 16 | tamanho do nome)
+ * </pre>
+ * e os nomes ficam, em UTF-8, em uma segunda área só de acréscimo. Nomes de alunos
+ * removidos viram lixo na arena de nomes e são compactados quando passam da metade.
+ *
+ * Como a GenericLinkedList, pode ser ORDENADA (pela matrícula numérica; busca
+ * binária, inserção/remoção deslocando registros com cópia de memória) ou NÃO
+ * ORDENADA (inserção no fim ou por posição; busca sequencial). O acesso por índice
+ * é O(1). Os Alunos devolvidos são cópias: alterá-los não altera a lista.
+ *
+ * A memória é liberada explicitamente por {@link #close()} (use try-with-resources);
+ * cada segmento tem a sua {@link Arena}, fechada assim que o segmento é trocado por
+ * um maior. Não é thread-safe.
+ */
+public final class ListaAlunosForaDoHeap implements AutoCloseable {
+    private static final long TAM_REGISTRO = 16;
+    private static final long OFF_MATRICULA = 0;
+    private static final long OFF_NOTA = 4;
+    private static final long OFF_NOME = 8;
+    private static final int MAX_NOME = 0xFFFF;
+    private static final long LIXO_MINIMO_COMPACTAR = 1 << 20;
+
+    private final boolean ordered;
+
+    private Arena arenaRegistros;
+    private MemorySegment registros;
+    private int size;
+
+    private Arena arenaNomes;
+    private MemorySegment nomes;
+    private long usadosNomes;
+    private long lixoNomes;
+
+    public ListaAlunosForaDoHeap(boolean ordered) {
+        this(ordered, 1024);
+    }
+
+    /**
+     * @param ordered            se true, mantém ordem crescente de matrícula (numérica)
+     * @param capacidadeInicial  registros reservados de início (a lista cresce sozinha)
+     */
+    public ListaAlunosForaDoHeap(boolean ordered, int capacidadeInicial) {
+        if (capacidadeInicial < 0) throw new IllegalArgumentException("Capacidade negativa: " + capacidadeInicial);
+        this.ordered = ordered;
+        this.arenaRegistros = Arena.ofShared();
+        this.registros = arenaRegistros.allocate(Math.max(1, capacidadeInicial) * TAM_REGISTRO, 8);
+        this.arenaNomes = Arena.ofShared();
+        this.nomes = arenaNomes.allocate(Math.max(64, capacidadeInicial * 16L), 1);
+    }
+
+    public boolean isOrdenada() { return ordered; }
+    public int tamanho() { return size; }
+
+    /** Bytes reservados fora do heap (registros + arena de nomes). */
+    public long bytesForaDoHeap() {
+        verificarAberta();
+        return registros.byteSize() + nomes.byteSize();
+    }
+
+    public void adicionar(Aluno aluno) {
+        Objects.requireNonNull(aluno, "Valor não pode ser null");
+        adicionar(Integer.parseInt(aluno.getMatricula()), aluno.getNome(), aluno.getNota());
+    }
+
+    /**
+     * Lista ordenada: insere antes dos alunos de mesma matrícula (busca binária +
+     * deslocamento dos registros seguintes). Não ordenada: insere no fim, O(1) amortizado.
+     */
+    public void adicionar(int matricula, String nome, float nota) {
+        verificarAberta();
+        inserirEm(ordered ? limiteInferior(matricula) : size, matricula, nome, nota);
+    }
+
+    /**
+     * Carga em lote. Na lista ordenada os registros são anexados e depois reordenados
+     * uma única vez (O((n + m) log(n + m)) em vez de m deslocamentos); novos alunos
+     * ficam antes dos já existentes de mesma matrícula, como em {@link #adicionar}.
+     */
+    public void adicionarTodos(Iterable<? extends Aluno> alunos) {
+        verificarAberta();
+        int antigos = size;
+        for (Aluno a : alunos) {
+            Objects.requireNonNull(a, "Valor não pode ser null");
+            inserirEm(size, Integer.parseInt(a.getMatricula()), a.getNome(), a.getNota());
+        }
+        if (ordered && size > antigos) reordenar(antigos);
+    }
+
+    /**
+     * Inserção por posição: como na GenericLinkedList, não é permitida em lista
+     * ORDENADA (IllegalStateException).
+     */
+    public void adicionarPosicao(int index, int matricula, String nome, float nota) {
+        verificarAberta();
+        if (ordered) {
+            throw new IllegalStateException(
+                    "Inserção por posição não permitida em lista ORDENADA; use adicionar para manter a ordem.");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Índice fora do intervalo: " + index + " (tamanho=" + size + ")");
+        }
+        inserirEm(index, matricula, nome, nota);
+    }
+
+    public void adicionarPosicao(int index, Aluno aluno) {
+        Objects.requireNonNull(aluno, "Valor não pode ser null");
+        adicionarPosicao(index, Integer.parseInt(aluno.getMatricula()), aluno.getNome(), aluno.getNota());
+    }
+
+    public boolean contemElemento(int matricula) {
+        return indiceDe(matricula) >= 0;
+    }
+
+    /** Cópia do primeiro aluno com a matrícula, ou null se não houver. */
+    public Aluno pesquisar(int matricula) {
+        int i = indiceDe(matricula);
+        return i >= 0 ? aluno(i) : null;
+    }
+
+    public Aluno pesquisar(Aluno valor) {
+        Objects.requireNonNull(valor, "Valor de busca não pode ser null");
+        return pesquisar(Integer.parseInt(valor.getMatricula()));
+    }
+
+    /** Remove o primeiro aluno com a matrícula e devolve uma cópia dele; null se não houver. */
+    public Aluno remover(int matricula) {
+        int i = indiceDe(matricula);
+        if (i < 0) return null;
+        Aluno removido = aluno(i);
+        lixoNomes += tamanhoNome(i);
+        long ini = i * TAM_REGISTRO;
+        MemorySegment.copy(registros, ini + TAM_REGISTRO, registros, ini, (size - i - 1) * TAM_REGISTRO);
+        size--;
+        if (lixoNomes > LIXO_MINIMO_COMPACTAR && lixoNomes > usadosNomes / 2) compactarNomes();
+        return removido;
+    }
+
+    public Aluno remover(Aluno valor) {
+        Objects.requireNonNull(valor, "Valor de remoção não pode ser null");
+        return remover(Integer.parseInt(valor.getMatricula()));
+    }
+
+    /** Acesso por posição em O(1). */
+    public Aluno obterPorIndice(int index) {
+        verificarAberta();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho=" + size);
+        }
+        return aluno(index);
+    }
+
+    /** Nota do aluno na posição, sem montar o Aluno. */
+    public float notaPorIndice(int index) {
+        verificarAberta();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho=" + size);
+        }
+        return registros.get(ValueLayout.JAVA_FLOAT, index * TAM_REGISTRO + OFF_NOTA);
+    }
+
+    /** Posição do primeiro aluno com a matrícula, ou -1. */
+    public int indiceDe(int matricula) {
+        verificarAberta();
+        if (ordered) {
+            int i = limiteInferior(matricula);
+            return i < size && matricula(i) == matricula ? i : -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (matricula(i) == matricula) return i;
+        }
+        return -1;
+    }
+
+    /** Libera a memória fora do heap; depois disso qualquer operação lança IllegalStateException. */
+    @Override
+    public void close() {
+        if (registros == null) return;
+        arenaRegistros.close();
+        arenaNomes.close();
+        registros = nomes = null;
+        arenaRegistros = arenaNomes = null;
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        verificarAberta();
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(aluno(i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private void verificarAberta() {
+        if (registros == null) throw new IllegalStateException("Lista fora do heap já foi fechada");
+    }
+
+    // ----- registros -----
+
+    private int matricula(int i) { return registros.get(ValueLayout.JAVA_INT, i * TAM_REGISTRO + OFF_MATRICULA); }
+    private long refNome(int i) { return registros.get(ValueLayout.JAVA_LONG, i * TAM_REGISTRO + OFF_NOME); }
+    private int tamanhoNome(int i) { return (int) (refNome(i) & MAX_NOME); }
+
+    private Aluno aluno(int i) {
+        return new Aluno(Integer.toString(matricula(i)), nome(refNome(i)),
+                registros.get(ValueLayout.JAVA_FLOAT, i * TAM_REGISTRO + OFF_NOTA));
+    }
+
+    /** Primeira posição cuja matrícula é >= a dada (lista ordenada). */
+    private int limiteInferior(int matricula) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int meio = (lo + hi) >>> 1;
+            if (matricula(meio) < matricula) lo = meio + 1;
+            else hi = meio;
+        }
+        return lo;
+    }
+
+    private void inserirEm(int index, int matricula, String nome, float nota) {
+        Objects.requireNonNull(nome, "nome obrigatório");
+        long ref = gravarNome(nome);
+        garantirCapacidade(size + 1);
+        long ini = index * TAM_REGISTRO;
+        if (index < size) {
+            MemorySegment.copy(registros, ini, registros, ini + TAM_REGISTRO, (size - index) * TAM_REGISTRO);
+        }
+        gravarRegistro(registros, index, matricula, nota, ref);
+        size++;
+    }
+
+    private static void gravarRegistro(MemorySegment destino, int i, int matricula, float nota, long ref) {
+        long ini = i * TAM_REGISTRO;
+        destino.set(ValueLayout.JAVA_INT, ini + OFF_MATRICULA, matricula);
+        destino.set(ValueLayout.JAVA_FLOAT, ini + OFF_NOTA, nota);
+        destino.set(ValueLayout.JAVA_LONG, ini + OFF_NOME, ref);
+    }
+
+    /** Troca o segmento de registros por um maior (o dobro), liberando o antigo na hora. */
+    private void garantirCapacidade(int minimo) {
+        long necessario = minimo * TAM_REGISTRO;
+        if (necessario <= registros.byteSize()) return;
+        Arena nova = Arena.ofShared();
+        MemorySegment maior = nova.allocate(Math.max(necessario, registros.byteSize() * 2), 8);
+        MemorySegment.copy(registros, 0, maior, 0, size * TAM_REGISTRO);
+        arenaRegistros.close();
+        arenaRegistros = nova;
+        registros = maior;
+    }
+
+    /**
+     * Reordena por matrícula depois de uma carga em lote a partir da posição
+     * {@code antigos}: ordena um long[] (matrícula, ordem de desempate) e copia os
+     * registros para um segmento novo nessa ordem. O vetor auxiliar é temporário.
+     */
+    private void reordenar(int antigos) {
+        int novos = size - antigos;
+        long[] chaves = new long[size];
+        for (int i = 0; i < size; i++) {
+            int desempate = i >= antigos ? i - antigos : i + novos; // novos antes dos antigos iguais
+            chaves[i] = ((long) matricula(i) << 32) | desempate;
+        }
+        Arrays.parallelSort(chaves);
+        Arena nova = Arena.ofShared();
+        MemorySegment ordenados = nova.allocate(registros.byteSize(), 8);
+        for (int i = 0; i < size; i++) {
+            int desempate = (int) chaves[i];
+            int origem = desempate < novos ? desempate + antigos : desempate - novos;
+            MemorySegment.copy(registros, origem * TAM_REGISTRO, ordenados, i * TAM_REGISTRO, TAM_REGISTRO);
+        }
+        arenaRegistros.close();
+        arenaRegistros = nova;
+        registros = ordenados;
+    }
+
+    // ----- arena de nomes -----
+
+    private long gravarNome(String nome) {
+        byte[] bytes = nome.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NOME) {
+            throw new IllegalArgumentException("Nome maior que " + MAX_NOME + " bytes");
+        }
+        if (usadosNomes + bytes.length > nomes.byteSize()) {
+            Arena nova = Arena.ofShared();
+            MemorySegment maior = nova.allocate(Math.max(usadosNomes + bytes.length, nomes.byteSize() * 2), 1);
+            MemorySegment.copy(nomes, 0, maior, 0, usadosNomes);
+            arenaNomes.close();
+            arenaNomes = nova;
+            nomes = maior;
+        }
+        MemorySegment.copy(bytes, 0, nomes, ValueLayout.JAVA_BYTE, usadosNomes, bytes.length);
+        long ref = (usadosNomes << 16) | bytes.length;
+        usadosNomes += bytes.length;
+        return ref;
+    }
+
+    private String nome(long ref) {
+        int tamanho = (int) (ref & MAX_NOME);
+        byte[] bytes = new byte[tamanho];
+        MemorySegment.copy(nomes, ValueLayout.JAVA_BYTE, ref >>> 16, bytes, 0, tamanho);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Regrava só os nomes ainda referenciados, na ordem dos registros, em uma arena nova. */
+    private void compactarNomes() {
+        long vivos = usadosNomes - lixoNomes;
+        Arena nova = Arena.ofShared();
+        MemorySegment compacta = nova.allocate(Math.max(64, vivos * 2), 1);
+        long pos = 0;
+        for (int i = 0; i < size; i++) {
+            long ref = refNome(i);
+            int tamanho = (int) (ref & MAX_NOME);
+            MemorySegment.copy(nomes, ref >>> 16, compacta, pos, tamanho);
+            registros.set(ValueLayout.JAVA_LONG, i * TAM_REGISTRO + OFF_NOME, (pos << 16) | tamanho);
+            pos += tamanho;
+        }
+        arenaNomes.close();
+        arenaNomes = nova;
+        nomes = compacta;
+        usadosNomes = pos;
+        lixoNomes = 0;
+    }
+}
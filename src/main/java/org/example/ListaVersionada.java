@@ -0,0 +1,489 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lista com versões (MVCC) para leituras consistentes durante alterações concorrentes.
+ * Mesmos modos e operações da {@link GenericLinkedList}, mas thread-safe e com
+ * {@link #snapshot()} em O(1): uma visão imutável do conteúdo naquele instante, que
+ * pode ser percorrida pelo tempo que for sem bloquear nem ser afetada pelos escritores.
+ *
+ * Os elementos ficam em uma árvore persistente (treap com o tamanho de cada subárvore)
+ * cujos nós nunca mudam: cada alteração copia só o caminho da raiz até o ponto alterado,
+ * O(log n) esperado, e publica a nova raiz. Uma versão é apenas uma raiz; as anteriores
+ * compartilham todo o resto e viram lixo quando nenhum leitor as referencia.
+ *
+ * - Lista ordenada: adicionar insere antes dos equivalentes, como na GenericLinkedList;
+ *   pesquisar e remover descem pela árvore em O(log n).
+ * - Lista não ordenada: adicionar anexa no fim; adicionarPosicao insere por índice.
+ *   pesquisar/remover percorrem em ordem (O(n)).
+ * - obterPorIndice é O(log n) nos dois modos.
+ *
+ * Escritores se revezam em um {@link ReentrantLock} (um de cada vez; não prende o carrier
+ * de threads virtuais como {@code synchronized}); leitores nunca bloqueiam.
+ */
+public class ListaVersionada<T> implements Iterable<T> {
+
+    /** Nó imutável; tamanho = elementos da subárvore. */
+    private static final class No<T> {
+        final T valor;
+        final No<T> esq;
+        final No<T> dir;
+        final int prioridade;
+        final int tamanho;
+
+        No(T valor, No<T> esq, No<T> dir, int prioridade) {
+            this.valor = valor;
+            this.esq = esq;
+            this.dir = dir;
+            this.prioridade = prioridade;
+            this.tamanho = tamanho(esq) + 1 + tamanho(dir);
+        }
+
+        No<T> comFilhos(No<T> esq, No<T> dir) {
+            return new No<>(valor, esq, dir, prioridade);
+        }
+    }
+
+    /** Resultado de uma divisão: elementos antes e a partir do ponto. */
+    private record Partes<T>(No<T> antes, No<T> depois) {}
+
+    private final boolean ordered;
+    private final Comparator<? super T> comparator;
+    private final ReentrantLock escrita = new ReentrantLock();
+    private volatile Versao<T> atual; // raiz e número publicados juntos
+
+    /**
+     * @param ordered    se true, a lista mantém ordem crescente definida pelo comparator
+     * @param comparator critério de comparação (não pode ser null)
+     */
+    public ListaVersionada(boolean ordered, Comparator<? super T> comparator) {
+        this.ordered = ordered;
+        this.comparator = Objects.requireNonNull(comparator, "Comparator não pode ser null");
+        this.atual = new Versao<>(null, 0, comparator, ordered);
+    }
+
+    public boolean isOrdenada() { return ordered; }
+    public Comparator<? super T> getComparator() { return comparator; }
+    public int tamanho() { return atual.tamanho(); }
+
+    /** Número de alterações já publicadas. */
+    public long getVersao() { return atual.getNumero(); }
+
+    /** Visão imutável e consistente do conteúdo atual, em O(1). */
+    public Versao<T> snapshot() {
+        return atual;
+    }
+
+    // ------------------------------------------------------------------
+    // Escrita (um escritor por vez; cada uma publica uma nova raiz)
+    // ------------------------------------------------------------------
+
+    /**
+     * Adiciona um elemento. Em lista ordenada, insere antes do primeiro >= novoValor;
+     * em lista não ordenada, no fim.
+     */
+    public void adicionar(T novoValor) {
+        Objects.requireNonNull(novoValor, "Valor não pode ser null");
+        No<T> novo = new No<>(novoValor, null, null, sortearPrioridade());
+        escrita.lock();
+        try {
+            No<T> r = atual.raiz;
+            if (!ordered) {
+                publicar(unir(r, novo));
+            } else {
+                Partes<T> p = dividirPorValor(r, novoValor);
+                publicar(unir(unir(p.antes(), novo), p.depois()));
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Adiciona todos os elementos como uma única versão. Um lote anexado no fim (em
+     * lista não ordenada, ou maior que o último elemento) vira uma treap em O(m) e é
+     * unido à árvore em O(log n) esperado; nos equivalentes, mantém a ordem do lote.
+     */
+    public void adicionarTodos(Iterable<? extends T> valores) {
+        Objects.requireNonNull(valores, "Lote não pode ser null");
+        List<T> lote = new ArrayList<>();
+        for (T v : valores) lote.add(Objects.requireNonNull(v, "Valor não pode ser null"));
+        if (lote.isEmpty()) return;
+        if (ordered) lote.sort(comparator); // estável
+        escrita.lock();
+        try {
+            No<T> r = atual.raiz;
+            if (!ordered || r == null || comparator.compare(ultimo(r).valor, lote.get(0)) < 0) {
+                publicar(unir(r, montar(lote)));
+                return;
+            }
+            // intercalação: uma inserção por elemento, publicando só no fim. Como na
+            // GenericLinkedList, o lote entra antes dos equivalentes que já estavam aqui,
+            // e um equivalente do próprio lote entra logo depois do anterior
+            T anterior = null;
+            int seguinte = 0; // posição logo após o último inserido
+            for (T v : lote) {
+                No<T> novo = new No<>(v, null, null, sortearPrioridade());
+                Partes<T> p = anterior != null && comparator.compare(anterior, v) == 0
+                        ? dividirPorPosicao(r, seguinte)
+                        : dividirPorValor(r, v);
+                seguinte = tamanho(p.antes()) + 1;
+                r = unir(unir(p.antes(), novo), p.depois());
+                anterior = v;
+            }
+            publicar(r);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Insere em uma posição [0..tamanho]; só em lista NÃO ordenada.
+     */
+    public void adicionarPosicao(int index, T valor) {
+        if (ordered) {
+            throw new IllegalStateException(
+                    "Inserção por posição não permitida em lista ORDENADA; use adicionar(T) para manter a ordem.");
+        }
+        Objects.requireNonNull(valor, "Valor não pode ser null");
+        escrita.lock();
+        try {
+            No<T> r = atual.raiz;
+            if (index < 0 || index > tamanho(r)) {
+                throw new IndexOutOfBoundsException("Índice fora do intervalo: " + index + " (tamanho=" + tamanho(r) + ")");
+            }
+            Partes<T> p = dividirPorPosicao(r, index);
+            publicar(unir(unir(p.antes(), new No<>(valor, null, null, sortearPrioridade())), p.depois()));
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Remove o primeiro elemento equivalente a {@code valor} e o retorna; null se não houver.
+     */
+    public T remover(T valor) {
+        Objects.requireNonNull(valor, "Valor de remoção não pode ser null");
+        escrita.lock();
+        try {
+            No<T> r = atual.raiz;
+            int i = indiceDe(r, valor, comparator, ordered);
+            if (i < 0) return null;
+            Partes<T> p = dividirPorPosicao(r, i);
+            Partes<T> q = dividirPorPosicao(p.depois(), 1);
+            publicar(unir(p.antes(), q.depois()));
+            return q.antes().valor;
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /** Chamado com o lock de escrita: a raiz e o número da versão saem juntos. */
+    private void publicar(No<T> novaRaiz) {
+        atual = new Versao<>(novaRaiz, atual.numero + 1, comparator, ordered);
+    }
+
+    // ------------------------------------------------------------------
+    // Leitura da versão mais recente (sem lock)
+    // ------------------------------------------------------------------
+
+    public T pesquisar(T valor) {
+        return snapshotAtual().pesquisar(valor);
+    }
+
+    public boolean contemElemento(T valor) {
+        return pesquisar(valor) != null;
+    }
+
+    public T obterPorIndice(int index) {
+        return snapshotAtual().obterPorIndice(index);
+    }
+
+    /** Itera sobre a versão atual; alterações posteriores não aparecem nem causam erro. */
+    @Override
+    public Iterator<T> iterator() {
+        return snapshotAtual().iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return snapshotAtual().spliterator();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public String toString() {
+        return snapshotAtual().toString();
+    }
+
+    private Versao<T> snapshotAtual() {
+        return atual;
+    }
+
+    /**
+     * Conteúdo da lista em um instante: imutável, pode ser lido por várias threads e
+     * mantido pelo tempo que for (segura apenas os nós daquela versão).
+     */
+    public static final class Versao<T> implements Iterable<T> {
+        private final No<T> raiz;
+        private final long numero;
+        private final Comparator<? super T> comparator;
+        private final boolean ordered;
+
+        private Versao(No<T> raiz, long numero, Comparator<? super T> comparator, boolean ordered) {
+            this.raiz = raiz;
+            this.numero = numero;
+            this.comparator = comparator;
+            this.ordered = ordered;
+        }
+
+        /** Número da versão (alterações publicadas até ela). */
+        public long getNumero() { return numero; }
+        public int tamanho() { return ListaVersionada.tamanho(raiz); }
+
+        /**
+         * Profundidade da árvore desta versão (0 se vazia), para diagnóstico: numa treap
+         * saudável fica em O(log n). Percorre todos os nós, O(n).
+         */
+        public int profundidade() {
+            int maior = 0;
+            ArrayDeque<No<T>> nos = new ArrayDeque<>();
+            ArrayDeque<Integer> niveis = new ArrayDeque<>();
+            if (raiz != null) {
+                nos.push(raiz);
+                niveis.push(1);
+            }
+            while (!nos.isEmpty()) {
+                No<T> x = nos.pop();
+                int nivel = niveis.pop();
+                maior = Math.max(maior, nivel);
+                if (x.esq != null) { nos.push(x.esq); niveis.push(nivel + 1); }
+                if (x.dir != null) { nos.push(x.dir); niveis.push(nivel + 1); }
+            }
+            return maior;
+        }
+
+        public T pesquisar(T valor) {
+            Objects.requireNonNull(valor, "Valor de busca não pode ser null");
+            int i = indiceDe(raiz, valor, comparator, ordered);
+            return i < 0 ? null : obterPorIndice(i);
+        }
+
+        public boolean contemElemento(T valor) {
+            return pesquisar(valor) != null;
+        }
+
+        /** O(log n). */
+        public T obterPorIndice(int index) {
+            if (index < 0 || index >= ListaVersionada.tamanho(raiz)) {
+                throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho=" + ListaVersionada.tamanho(raiz));
+            }
+            No<T> x = raiz;
+            while (true) {
+                int e = ListaVersionada.tamanho(x.esq);
+                if (index < e) {
+                    x = x.esq;
+                } else if (index == e) {
+                    return x.valor;
+                } else {
+                    index -= e + 1;
+                    x = x.dir;
+                }
+            }
+        }
+
+        /** Em ordem, com uma pilha do tamanho da altura da árvore. */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private final ArrayDeque<No<T>> pilha = new ArrayDeque<>();
+
+                {
+                    descer(raiz);
+                }
+
+                private void descer(No<T> x) {
+                    for (; x != null; x = x.esq) pilha.push(x);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return !pilha.isEmpty();
+                }
+
+                @Override
+                public T next() {
+                    if (pilha.isEmpty()) throw new NoSuchElementException();
+                    No<T> x = pilha.pop();
+                    descer(x.dir);
+                    return x.valor;
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            int c = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+            if (!ordered) return Spliterators.spliterator(iterator(), tamanho(), c);
+            return new Spliterators.AbstractSpliterator<>(tamanho(), c | Spliterator.SORTED) {
+                private final Iterator<T> it = iterator();
+
+                @Override
+                public boolean tryAdvance(Consumer<? super T> acao) {
+                    if (!it.hasNext()) return false;
+                    acao.accept(it.next());
+                    return true;
+                }
+
+                @Override
+                public Comparator<? super T> getComparator() {
+                    return comparator;
+                }
+            };
+        }
+
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[");
+            for (T v : this) {
+                if (sb.length() > 1) sb.append(", ");
+                sb.append(v);
+            }
+            return sb.append("]").toString();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Treap persistente: dividir e unir copiam só os nós do caminho
+    // ------------------------------------------------------------------
+
+    private static int tamanho(No<?> x) {
+        return x == null ? 0 : x.tamanho;
+    }
+
+    private static int sortearPrioridade() {
+        return ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+    }
+
+    /** antes = elementos < v; depois = elementos >= v. */
+    private Partes<T> dividirPorValor(No<T> x, T v) {
+        if (x == null) return new Partes<>(null, null);
+        if (comparator.compare(x.valor, v) < 0) {
+            Partes<T> p = dividirPorValor(x.dir, v);
+            return new Partes<>(x.comFilhos(x.esq, p.antes()), p.depois());
+        }
+        Partes<T> p = dividirPorValor(x.esq, v);
+        return new Partes<>(p.antes(), x.comFilhos(p.depois(), x.dir));
+    }
+
+    /** antes = os k primeiros; depois = o restante. */
+    private static <T> Partes<T> dividirPorPosicao(No<T> x, int k) {
+        if (x == null) return new Partes<>(null, null);
+        int e = tamanho(x.esq);
+        if (k <= e) {
+            Partes<T> p = dividirPorPosicao(x.esq, k);
+            return new Partes<>(p.antes(), x.comFilhos(p.depois(), x.dir));
+        }
+        Partes<T> p = dividirPorPosicao(x.dir, k - e - 1);
+        return new Partes<>(x.comFilhos(x.esq, p.antes()), p.depois());
+    }
+
+    /** Todos os elementos de a seguidos dos de b. */
+    private static <T> No<T> unir(No<T> a, No<T> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.prioridade >= b.prioridade) return a.comFilhos(a.esq, unir(a.dir, b));
+        return b.comFilhos(unir(a, b.esq), b.dir);
+    }
+
+    private static <T> No<T> ultimo(No<T> x) {
+        while (x.dir != null) x = x.dir;
+        return x;
+    }
+
+    /**
+     * Posição do primeiro elemento equivalente a {@code v}, ou -1. Em lista ordenada,
+     * desce até o primeiro >= v em O(log n); senão, percorre em ordem.
+     */
+    private static <T> int indiceDe(No<T> x, T v, Comparator<? super T> comparator, boolean ordered) {
+        if (!ordered) {
+            ArrayDeque<No<T>> pilha = new ArrayDeque<>();
+            int i = 0;
+            while (x != null || !pilha.isEmpty()) {
+                for (; x != null; x = x.esq) pilha.push(x);
+                No<T> y = pilha.pop();
+                if (comparator.compare(y.valor, v) == 0) return i;
+                i++;
+                x = y.dir;
+            }
+            return -1;
+        }
+        int antes = 0;      // elementos < v já deixados à esquerda
+        int candidato = -1; // posição do menor >= v visto até aqui
+        T valorCandidato = null;
+        while (x != null) {
+            if (comparator.compare(x.valor, v) < 0) {
+                antes += tamanho(x.esq) + 1;
+                x = x.dir;
+            } else {
+                candidato = antes + tamanho(x.esq);
+                valorCandidato = x.valor;
+                x = x.esq;
+            }
+        }
+        return candidato >= 0 && comparator.compare(valorCandidato, v) == 0 ? candidato : -1;
+    }
+
+    /**
+     * Treap com o lote em ordem, em O(m): cada elemento recebe uma prioridade sorteada,
+     * como em adicionar, e a árvore cartesiana é montada com uma pilha do ramo direito.
+     * Assim o bloco segue uma treap aleatória comum, de profundidade O(log m) esperada,
+     * e pode ser unido a outras sem degenerar.
+     */
+    private static <T> No<T> montar(List<T> lote) {
+        int m = lote.size();
+        int[] prioridade = new int[m];
+        int[] esq = new int[m];
+        int[] dir = new int[m];
+        int[] pilha = new int[m]; // ramo direito da árvore montada até aqui
+        int topo = 0;
+        for (int i = 0; i < m; i++) {
+            prioridade[i] = sortearPrioridade();
+            int ultimoTirado = -1;
+            while (topo > 0 && prioridade[pilha[topo - 1]] < prioridade[i]) ultimoTirado = pilha[--topo];
+            esq[i] = ultimoTirado;
+            dir[i] = -1;
+            if (topo > 0) dir[pilha[topo - 1]] = i;
+            pilha[topo++] = i;
+        }
+        return criarNos(lote, pilha[0], prioridade, esq, dir);
+    }
+
+    private static <T> No<T> criarNos(List<T> lote, int i, int[] prioridade, int[] esq, int[] dir) {
+        if (i < 0) return null;
+        No<T> e = criarNos(lote, esq[i], prioridade, esq, dir);
+        No<T> d = criarNos(lote, dir[i], prioridade, esq, dir);
+        return new No<>(lote.get(i), e, d, prioridade[i]);
+    }
+}
@@ -3,16 +3,37 @@ package org.example;
 import org.example.Aluno;
 import org.example.AlunoComparators;
 import org.example.GenericLinkedList;
+import org.example.rede.ServidorRoster;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Scanner;
 
 public class Main2 {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--servidor")) {
+            // mesmas operações do menu, via TCP: [porta] [ordenada|naoOrdenada] [arquivoAlunos]
+            ServidorRoster.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // --dados <dir>: alterações gravadas em log (WAL) e restauradas na próxima execução
+        Path dados = args.length > 1 && args[0].equals("--dados") ? Path.of(args[1]) : null;
         Scanner sc = new Scanner(System.in);
         System.out.println("==== Configuração inicial ====");
         boolean ordenada = perguntarOrdenacao(sc);
-        GenericLinkedList<Aluno> lista = new GenericLinkedList<>(ordenada, AlunoComparators.porMatricula());
+        // ordenada: índice skip list, O(log n) esperado; não ordenada: índice hash por matrícula, O(1)
+        GenericLinkedList<Aluno> lista = ordenada
+                ? new GenericLinkedList<>(true, AlunoComparators.porMatricula(), true)
+                : new GenericLinkedList<>(AlunoComparators.porMatricula(), Aluno::getMatricula);
         System.out.println("Lista criada: " + (lista.isOrdenada() ? "ORDENADA" : "NÃO ORDENADA") + " (Comparator: matrícula) ");
+        RosterDuravel roster = dados == null ? null : RosterDuravel.abrir(dados, lista);
+        if (roster != null) System.out.println(lista.tamanho() + " alunos restaurados de " + dados + " ");
+        // buscas e remoções por matrícula passam pelo cache (invalidado a cada alteração da lista)
+        CacheBuscaLista<String, Aluno> cache = CacheBuscaLista.porMatricula(lista, 1024);
+        IndiceTexto<Aluno> porNome = IndiceTexto.porNome(lista); // índice secundário, sem segunda lista
+        IndiceNumerico<Aluno> porNota = IndiceNumerico.porNota(lista); // maiores notas sem ordenar a lista
 
                 // Repetidor controlado por sentinela (opção 0 encerra)
         while (true) {
@@ -24,24 +45,37 @@ public class Main2 {
 
                 if (opcao == 0) {
                     System.out.println("Encerrando... Até mais!");
+                    if (roster != null) roster.close();
                     break; // sentinela
                 }
 
                 switch (opcao) {
                     case 1:
-                        adicionarAluno(sc, lista);
+                        adicionarAluno(sc, lista, roster);
                         break;
                     case 2:
                         listar(lista);
                         break;
                     case 3:
-                        pesquisarAluno(sc, lista);
+                        pesquisarAluno(sc, cache);
                         break;
                     case 4:
-                        removerAluno(sc, lista);
+                        removerAluno(sc, cache, roster);
                         break;
                     case 5:
-                        inserirEmPosicao(sc, lista);
+                        inserirEmPosicao(sc, lista, roster);
+                        break;
+                    case 6:
+                        System.out.println(cache + " ");
+                        break;
+                    case 7:
+                        pesquisarPorNome(sc, porNome);
+                        break;
+                    case 8:
+                        listarIntervalo(sc, lista);
+                        break;
+                    case 9:
+                        listarMaioresNotas(sc, porNota);
                         break;
                     default:
                         System.out.println("Opção inexistente. Tente novamente. ");
@@ -73,20 +107,24 @@ public class Main2 {
         System.out.println("3) Pesquisar aluno por matrícula");
         System.out.println("4) Remover aluno por matrícula");
         System.out.println("5) Inserir em posição (apenas lista NÃO ordenada)");
+        System.out.println("6) Estatísticas do cache de buscas");
+        System.out.println("7) Pesquisar alunos por nome (início do nome)");
+        System.out.println("8) Listar intervalo de matrículas (apenas lista ordenada)");
+        System.out.println("9) Maiores notas");
         System.out.println("0) Sair");
     }
 
-    private static void adicionarAluno(Scanner sc, GenericLinkedList<Aluno> lista) {
+    private static void adicionarAluno(Scanner sc, GenericLinkedList<Aluno> lista, RosterDuravel roster) throws IOException {
         System.out.print("Matrícula: ");
         String mat = sc.nextLine().trim();
         System.out.print("Nome: ");
         String nome = sc.nextLine().trim();
-        Aluno a = new Aluno(mat, nome);
-        lista.adicionar(a);
+        Aluno a = new Aluno(mat, nome, lerNota(sc));
+        if (roster != null) roster.adicionar(a); else lista.adicionar(a);
         System.out.println("Aluno adicionado. Lista agora: " + lista + " ");
     }
 
-    private static void inserirEmPosicao(Scanner sc, GenericLinkedList<Aluno> lista) {
+    private static void inserirEmPosicao(Scanner sc, GenericLinkedList<Aluno> lista, RosterDuravel roster) throws IOException {
         if (lista.isOrdenada()) {
             System.out.println("Lista é ORDENADA: inserção por posição não é permitida. Use a opção 1 para manter a ordem. ");
             return;
@@ -97,25 +135,30 @@ public class Main2 {
         String mat = sc.nextLine().trim();
         System.out.print("Nome: ");
         String nome = sc.nextLine().trim();
-        Aluno a = new Aluno(mat, nome);
+        Aluno a = new Aluno(mat, nome, lerNota(sc));
         try {
-            lista.adicionarPosicao(idx, a);
+            if (roster != null) roster.adicionarPosicao(idx, a); else lista.adicionarPosicao(idx, a);
             System.out.println("Inserido em " + idx + ". Lista agora: " + lista + " ");
         } catch (IndexOutOfBoundsException ex) {
             System.out.println("Índice inválido: " + ex.getMessage() + " ");
         }
     }
 
+    private static float lerNota(Scanner sc) {
+        System.out.print("Nota (vazio = 0): ");
+        String nota = sc.nextLine().trim().replace(',', '.');
+        return nota.isEmpty() ? 0f : Float.parseFloat(nota);
+    }
+
     private static void listar(GenericLinkedList<Aluno> lista) {
         System.out.println("Conteúdo da lista (tamanho=" + lista.tamanho() + "): ");
         System.out.println(lista + " ");
     }
 
-    private static void pesquisarAluno(Scanner sc, GenericLinkedList<Aluno> lista) {
+    private static void pesquisarAluno(Scanner sc, CacheBuscaLista<String, Aluno> cache) {
         System.out.print("Matrícula a pesquisar: ");
         String mat = sc.nextLine().trim();
-        Aluno chave = new Aluno(mat, "—");
-        Aluno encontrado = lista.pesquisar(chave);
+        Aluno encontrado = cache.pesquisar(mat);
         if (encontrado != null) {
             System.out.println("Encontrado: " + encontrado + " ");
         } else {
@@ -123,14 +166,49 @@ public class Main2 {
         }
     }
 
-    private static void removerAluno(Scanner sc, GenericLinkedList<Aluno> lista) {
+    private static void pesquisarPorNome(Scanner sc, IndiceTexto<Aluno> porNome) {
+        System.out.print("Nome ou início do nome: ");
+        String prefixo = sc.nextLine().trim();
+        int total = porNome.contarPrefixo(prefixo);
+        if (total == 0) {
+            System.out.println("Nenhum aluno encontrado. ");
+            return;
+        }
+        for (Aluno a : porNome.buscarPrefixo(prefixo, 20)) System.out.println("  " + a);
+        if (total > 20) System.out.println("  ... e mais " + (total - 20));
+    }
+
+    private static void listarIntervalo(Scanner sc, GenericLinkedList<Aluno> lista) {
+        System.out.print("Da matrícula: ");
+        String de = sc.nextLine().trim();
+        System.out.print("Até a matrícula: ");
+        String ate = sc.nextLine().trim();
+        Collection<Aluno> faixa = lista.entre(new Aluno(de, ""), new Aluno(ate, ""));
+        int total = faixa.size();
+        if (total == 0) {
+            System.out.println("Nenhum aluno no intervalo. ");
+            return;
+        }
+        Aluno primeiro = faixa.iterator().next();
+        System.out.println(total + " aluno(s), a partir da posição " + lista.indiceDe(primeiro) + ":");
+        faixa.stream().limit(20).forEach(a -> System.out.println("  " + a));
+        if (total > 20) System.out.println("  ... e mais " + (total - 20));
+    }
+
+    private static void listarMaioresNotas(Scanner sc, IndiceNumerico<Aluno> porNota) {
+        System.out.print("Quantos alunos: ");
+        int k = Integer.parseInt(sc.nextLine().trim());
+        int i = 1;
+        for (Aluno a : porNota.maiores(k)) System.out.println("  " + i++ + ") " + a);
+    }
+
+    private static void removerAluno(Scanner sc, CacheBuscaLista<String, Aluno> cache, RosterDuravel roster) throws IOException {
         System.out.print("Matrícula a remover: ");
         String mat = sc.nextLine().trim();
-        Aluno chave = new Aluno(mat, "—");
-        Aluno removido = lista.remover(chave);
+        Aluno removido = roster != null ? roster.remover(mat) : cache.remover(mat); // o cache observa a lista
         if (removido != null) {
             System.out.println("Removido: " + removido);
-            System.out.println("Lista agora: " + lista + " ");
+            System.out.println("Lista agora: " + cache.getLista() + " ");
         } else {
             System.out.println("Aluno não encontrado para remoção. ");
         }
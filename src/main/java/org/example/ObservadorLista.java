@@ -0,0 +1,18 @@
+package org.example;
+
+/**
+ * Recebe as alterações estruturais de uma {@link GenericLinkedList}: cada elemento
+ * ligado ou desligado, por qualquer caminho (adicionar, adicionarTodos, remover,
+ * iterador, aplicarLote...). Serve para manter estruturas auxiliares (caches, índices
+ * secundários) em dia com a lista.
+ *
+ * Os avisos chegam no meio da alteração, na thread que a fez: o observador não deve
+ * consultar nem alterar a lista de dentro deles.
+ */
+public interface ObservadorLista<T> {
+    /** {@code valor} acabou de entrar na lista. */
+    default void aoAdicionar(T valor) {}
+
+    /** {@code valor} acabou de sair da lista. */
+    default void aoRemover(T valor) {}
+}
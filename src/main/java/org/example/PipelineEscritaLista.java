@@ -0,0 +1,214 @@
+package org.example;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Frente de escrita em lote para uma {@link GenericLinkedList} compartilhada.
+ *
+ * Várias threads enfileiram adicionar/remover (e consultas) em uma fila limitada
+ * (ring buffer {@link ArrayBlockingQueue}, com muitos produtores e um consumidor);
+ * uma única thread escritora retira as operações em lotes e aplica cada lote com
+ * {@link GenericLinkedList#aplicarLote}, que em lista ordenada ordena o lote pelo
+ * comparator e percorre a lista uma só vez. Quem chamou recebe um
+ * {@link CompletableFuture} por operação, completado quando o lote é aplicado.
+ *
+ * Um lote fecha quando atinge {@code tamanhoLote} operações ou quando a primeira
+ * delas esperou {@code latenciaMaxima}. Com a fila cheia, quem enfileira espera
+ * (contrapressão). Só a thread escritora toca na lista: depois de criar o pipeline,
+ * leituras devem passar por {@link #consultar}.
+ *
+ * Enfileirar e fechar são coordenados por um {@link ReentrantReadWriteLock}: quem
+ * enfileira segura a leitura enquanto confere o estado e insere, e {@link #close()}
+ * só marca o encerramento com a escrita, depois que esses terminaram. Assim nada
+ * entra na fila depois do fim, e todo futuro aceito é completado (com o resultado
+ * ou com erro de pipeline encerrado).
+ */
+public final class PipelineEscritaLista<T> implements AutoCloseable {
+    private final GenericLinkedList<T> lista;
+    private final int tamanhoLote;
+    private final long latenciaNanos;
+    private final BlockingQueue<Pedido<T>> fila;
+    private final Thread escritora;
+    private final ReentrantReadWriteLock estado = new ReentrantReadWriteLock();
+    private volatile boolean fechado; // só muda com a escrita de estado
+
+    /** Item da fila: operação sobre a lista (op != null) ou consulta (consulta != null). */
+    private record Pedido<T>(GenericLinkedList.Operacao<T> op,
+                             Function<? super GenericLinkedList<T>, ?> consulta,
+                             CompletableFuture<Object> futuro) {}
+
+    private static final Pedido<?> FIM = new Pedido<>(null, null, null);
+
+    public PipelineEscritaLista(GenericLinkedList<T> lista) {
+        this(lista, 256, Duration.ofMillis(2), 8192);
+    }
+
+    /**
+     * @param tamanhoLote     máximo de operações por lote
+     * @param latenciaMaxima  quanto a primeira operação de um lote espera por outras
+     * @param capacidadeFila  operações pendentes antes de quem enfileira passar a esperar
+     */
+    public PipelineEscritaLista(GenericLinkedList<T> lista, int tamanhoLote, Duration latenciaMaxima,
+                                int capacidadeFila) {
+        this.lista = Objects.requireNonNull(lista, "Lista não pode ser null");
+        if (tamanhoLote < 1) throw new IllegalArgumentException("Tamanho de lote inválido: " + tamanhoLote);
+        if (capacidadeFila < 1) throw new IllegalArgumentException("Capacidade de fila inválida: " + capacidadeFila);
+        this.tamanhoLote = tamanhoLote;
+        this.latenciaNanos = Objects.requireNonNull(latenciaMaxima, "Latência não pode ser null").toNanos();
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.escritora = new Thread(this::executar, "pipeline-escrita-lista");
+        this.escritora.setDaemon(true);
+        this.escritora.start();
+    }
+
+    /** Enfileira uma adição; o futuro completa com o próprio valor. */
+    public CompletableFuture<T> adicionar(T valor) {
+        return enfileirarOperacao(GenericLinkedList.Operacao.adicionar(valor));
+    }
+
+    /** Enfileira uma remoção; o futuro completa com o elemento removido, ou null. */
+    public CompletableFuture<T> remover(T valor) {
+        return enfileirarOperacao(GenericLinkedList.Operacao.remover(valor));
+    }
+
+    /**
+     * Executa {@code consulta} na thread escritora, depois de todas as operações
+     * enfileiradas antes dela (ex.: {@code l -> l.pesquisar(chave)}).
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> consultar(Function<? super GenericLinkedList<T>, ? extends R> consulta) {
+        Objects.requireNonNull(consulta, "Consulta não pode ser null");
+        CompletableFuture<Object> f = new CompletableFuture<>();
+        enfileirar(new Pedido<>(null, consulta, f));
+        return (CompletableFuture<R>) (CompletableFuture<?>) f;
+    }
+
+    /**
+     * Para de aceitar operações, aplica as pendentes e encerra a thread escritora. Não
+     * espera por espaço na fila: se ela estiver cheia, a escritora percebe o
+     * encerramento quando a esvaziar.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void close() throws InterruptedException {
+        estado.writeLock().lock(); // espera quem está inserindo agora
+        try {
+            if (fechado) return;
+            fechado = true;
+        } finally {
+            estado.writeLock().unlock();
+        }
+        fila.offer((Pedido<T>) FIM); // acorda a escritora se estiver esperando na fila vazia
+        escritora.join();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<T> enfileirarOperacao(GenericLinkedList.Operacao<T> op) {
+        CompletableFuture<Object> f = new CompletableFuture<>();
+        enfileirar(new Pedido<>(op, null, f));
+        return (CompletableFuture<T>) (CompletableFuture<?>) f;
+    }
+
+    private void enfileirar(Pedido<T> pedido) {
+        estado.readLock().lock();
+        try {
+            if (fechado) throw new IllegalStateException("Pipeline encerrado");
+            fila.put(pedido);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pedido.futuro().completeExceptionally(e);
+        } finally {
+            estado.readLock().unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Thread escritora
+    // ------------------------------------------------------------------
+
+    private void executar() {
+        List<Pedido<T>> lote = new ArrayList<>(tamanhoLote);
+        boolean fim = false;
+        try {
+            while (!fim) {
+                lote.add(fila.take());
+                long prazo = System.nanoTime() + latenciaNanos;
+                while (lote.size() < tamanhoLote && !contemFim(lote)) {
+                    if (fila.drainTo(lote, tamanhoLote - lote.size()) > 0) continue;
+                    long resta = prazo - System.nanoTime();
+                    if (resta <= 0) break;
+                    Pedido<T> p = fila.poll(resta, TimeUnit.NANOSECONDS);
+                    if (p == null) break;
+                    lote.add(p);
+                }
+                fim = processar(lote);
+                lote.clear();
+                if (fechado && fila.isEmpty()) fim = true; // fechado com a fila cheia: FIM não entrou
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // encerrado: nada mais será aplicado
+        for (Pedido<T> p : lote) falhar(p);
+        for (Pedido<T> p; (p = fila.poll()) != null; ) falhar(p);
+    }
+
+    private static boolean contemFim(List<?> lote) {
+        return lote.get(lote.size() - 1) == FIM;
+    }
+
+    /**
+     * Aplica o lote na ordem: operações consecutivas vão juntas para aplicarLote;
+     * uma consulta fecha o trecho anterior e roda em seguida. Retorna true no FIM,
+     * depois de falhar o que houver depois dele no lote.
+     */
+    private boolean processar(List<Pedido<T>> lote) {
+        List<GenericLinkedList.Operacao<T>> ops = new ArrayList<>(lote.size());
+        int inicio = 0;
+        for (int i = 0; i <= lote.size(); i++) {
+            Pedido<T> p = i < lote.size() ? lote.get(i) : null;
+            if (p != null && p.op() != null) {
+                ops.add(p.op());
+                continue;
+            }
+            aplicar(lote.subList(inicio, i), ops);
+            ops.clear();
+            inicio = i + 1;
+            if (p == FIM) {
+                for (Pedido<T> resto : lote.subList(i + 1, lote.size())) falhar(resto);
+                return true;
+            }
+            if (p != null) {
+                try {
+                    p.futuro().complete(p.consulta().apply(lista));
+                } catch (RuntimeException e) {
+                    p.futuro().completeExceptionally(e);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void aplicar(List<Pedido<T>> pedidos, List<GenericLinkedList.Operacao<T>> ops) {
+        if (ops.isEmpty()) return;
+        try {
+            List<T> resultados = lista.aplicarLote(ops);
+            for (int i = 0; i < pedidos.size(); i++) pedidos.get(i).futuro().complete(resultados.get(i));
+        } catch (RuntimeException e) {
+            for (Pedido<T> p : pedidos) p.futuro().completeExceptionally(e);
+        }
+    }
+
+    private void falhar(Pedido<T> p) {
+        if (p != FIM) p.futuro().completeExceptionally(new IllegalStateException("Pipeline encerrado"));
+    }
+}
@@ -0,0 +1,129 @@
+package org.example;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elementos de uma mesma chave nos índices secundários ({@link IndiceTexto},
+ * {@link IndiceNumerico}). O mapa do índice guarda o próprio elemento enquanto a chave
+ * tem um só e um {@code Repetidos} a partir do segundo, o que poupa uma coleção por
+ * entrada no caso comum; por ser um tipo próprio, não se confunde com um elemento que
+ * seja ele mesmo uma coleção.
+ *
+ * Os elementos ficam na ordem em que entraram, em um {@link LinkedHashMap} por
+ * identidade: retirar um deles custa O(1) mesmo quando quase todos têm a mesma chave
+ * (ex.: nota 0). A mesma instância pode aparecer mais de uma vez.
+ */
+final class Repetidos<T> implements Iterable<T> {
+    /** Chave por identidade (a lista pode ter elementos iguais por equals, mas distintos). */
+    private record Ref(Object valor) {
+        @Override public boolean equals(Object o) { return o instanceof Ref r && r.valor == valor; }
+        @Override public int hashCode() { return System.identityHashCode(valor); }
+    }
+
+    private final LinkedHashMap<Ref, Integer> ocorrencias = new LinkedHashMap<>();
+    private int tamanho;
+
+    private Repetidos(T a, T b) {
+        adicionar(a);
+        adicionar(b);
+    }
+
+    private void adicionar(T valor) {
+        ocorrencias.merge(new Ref(valor), 1, Integer::sum);
+        tamanho++;
+    }
+
+    private boolean remover(T valor) {
+        Ref r = new Ref(valor);
+        Integer n = ocorrencias.get(r);
+        if (n == null) return false;
+        if (n == 1) ocorrencias.remove(r); else ocorrencias.put(r, n - 1);
+        tamanho--;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unico() {
+        return (T) ocorrencias.keySet().iterator().next().valor();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<Map.Entry<Ref, Integer>> entradas = ocorrencias.entrySet().iterator();
+        return new Iterator<>() {
+            private Map.Entry<Ref, Integer> atual;
+            private int restantes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 || entradas.hasNext();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (restantes == 0) {
+                    atual = entradas.next();
+                    restantes = atual.getValue();
+                }
+                restantes--;
+                return (T) atual.getKey().valor();
+            }
+        };
+    }
+
+    // ------------------------------------------------------------------
+    // Operações sobre o valor guardado no índice (T ou Repetidos<T>)
+    // ------------------------------------------------------------------
+
+    /** Acrescenta {@code valor} à chave, criando o grupo no segundo elemento. */
+    @SuppressWarnings("unchecked")
+    static <K, T> void inserir(Map<K, Object> indice, K chave, T valor) {
+        indice.merge(chave, valor, (atual, novo) -> {
+            if (atual instanceof Repetidos<?> r) {
+                ((Repetidos<T>) r).adicionar((T) novo);
+                return r;
+            }
+            return new Repetidos<>((T) atual, (T) novo);
+        });
+    }
+
+    /** Retira a instância {@code valor} (por identidade) da chave; false se não estava lá. */
+    @SuppressWarnings("unchecked")
+    static <K, T> boolean retirar(Map<K, Object> indice, K chave, T valor) {
+        Object atual = indice.get(chave);
+        if (atual == valor) {
+            indice.remove(chave);
+            return true;
+        }
+        if (!(atual instanceof Repetidos<?> r) || !((Repetidos<T>) r).remover(valor)) return false;
+        if (r.tamanho == 1) indice.put(chave, r.unico());
+        return true;
+    }
+
+    /** Quantos elementos há no valor guardado. */
+    static int contar(Object v) {
+        return v instanceof Repetidos<?> r ? r.tamanho : 1;
+    }
+
+    /** O primeiro elemento que entrou na chave (null se {@code v} for null). */
+    @SuppressWarnings("unchecked")
+    static <T> T primeiro(Object v) {
+        return v instanceof Repetidos<?> r ? (T) r.iterator().next() : (T) v;
+    }
+
+    /** Acrescenta os elementos de {@code v} a {@code destino}, até ele ter {@code limite}. */
+    @SuppressWarnings("unchecked")
+    static <T> void acumular(Object v, List<T> destino, int limite) {
+        if (v instanceof Repetidos<?> r) {
+            for (Iterator<T> it = ((Repetidos<T>) r).iterator(); it.hasNext() && destino.size() < limite; ) {
+                destino.add(it.next());
+            }
+        } else if (destino.size() < limite) {
+            destino.add((T) v);
+        }
+    }
+}
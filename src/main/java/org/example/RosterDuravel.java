@@ -0,0 +1,422 @@
+package org.example;
+
+import org.example.io.LogOperacoes;
+import org.example.io.LogOperacoes.Sincronismo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Cadastro de alunos que sobrevive ao fim do processo: as alterações feitas por aqui
+ * (adicionar, remover por matrícula, inserir em posição) são anexadas a um
+ * {@link LogOperacoes} (WAL) em um diretório e só então aplicadas à lista. Se o log
+ * falha, a alteração não chega à lista; se falha depois (no fsync), o log passa a
+ * recusar alterações e checkpoints, e nada do que não chegou ao disco é gravado.
+ *
+ * Ao abrir, a lista (vazia) recebe o último checkpoint ({@code roster.ckpt}) e depois
+ * as alterações do log posteriores a ele, na ordem original. Um checkpoint grava o
+ * conteúdo inteiro em um arquivo temporário, troca-o atomicamente pelo anterior e apaga
+ * os segmentos do log que ele cobre; é feito a cada {@code registrosPorCheckpoint}
+ * alterações (em outra thread) ou com {@link #checkpoint()}.
+ *
+ * Com {@link Sincronismo#GRUPO} cada alteração só retorna quando está em disco, mas o
+ * fsync é compartilhado pelas alterações concorrentes (group commit); com
+ * {@link Sincronismo#INTERVALO} retorna logo e uma queda perde no máximo o último
+ * intervalo. É thread-safe: as alterações são serializadas por um {@link ReentrantLock}
+ * (que não prende a thread portadora de threads virtuais, nem durante o fsync do
+ * checkpoint), e a espera pelo disco acontece fora dele. Um lote de
+ * {@link #adicionarTodos} vai ao log como uma unidade e é reproduzido com
+ * adicionarTodos, na mesma ordem. Alterações feitas diretamente na lista não vão para o log.
+ *
+ * Funciona com uma {@link GenericLinkedList} (checkpoint copia a lista sob o lock) ou
+ * com uma {@link ListaVersionada} (checkpoint a partir de um snapshot, sem parar as
+ * escritas).
+ */
+public final class RosterDuravel implements Closeable {
+    static final String CHECKPOINT = "roster.ckpt";
+    static final int MAGICO = 0x434B5054; // "CKPT"
+    static final int VERSAO = 2; // 2: com nota
+    static final int LIMITE_BUFFER = 1 << 20;
+
+    /** O que o roster precisa da lista; uma implementação para cada tipo aceito. */
+    private interface Alvo {
+        boolean ordenada();
+        int tamanho();
+        void adicionar(Aluno a);
+        void adicionarTodos(List<Aluno> alunos);
+        void adicionarPosicao(int indice, Aluno a);
+        Aluno pesquisar(Aluno chave);
+        Aluno remover(Aluno chave);
+        /** Conteúdo atual; chamado sob o lock do roster, percorrido fora dele. */
+        Conteudo copia();
+    }
+
+    private record Conteudo(Iterable<Aluno> alunos, int tamanho) {}
+
+    private final Path dir;
+    private final Alvo alvo;
+    private final Sincronismo sincronismo;
+    private final long registrosPorCheckpoint;
+    private final ReentrantLock trava = new ReentrantLock();          // alterações e contadores
+    private final ReentrantLock checkpointando = new ReentrantLock(); // ordem: checkpointando -> trava
+    private final List<Aluno> loteReproduzido = new ArrayList<>();
+    private int esperadosNoLote; // 0: nenhum lote aberto na reprodução
+    private LogOperacoes log;
+    private long desdeCheckpoint;
+    private boolean checkpointPendente;
+    private long checkpoints;
+    private volatile IOException falhaCheckpoint;
+
+    private RosterDuravel(Path dir, Alvo alvo, Sincronismo sincronismo, long registrosPorCheckpoint) {
+        this.dir = dir;
+        this.alvo = alvo;
+        this.sincronismo = sincronismo;
+        this.registrosPorCheckpoint = registrosPorCheckpoint;
+    }
+
+    /** Group commit, fsync em até 10 ms e checkpoint a cada 1M alterações. */
+    public static RosterDuravel abrir(Path dir, GenericLinkedList<Aluno> lista) throws IOException {
+        return abrir(dir, lista, Sincronismo.GRUPO, Duration.ofMillis(10), 1_000_000);
+    }
+
+    /**
+     * Restaura {@code lista} (que deve estar vazia) a partir de {@code dir} e passa a
+     * registrar as alterações.
+     *
+     * @param intervalo              espera máxima antes do fsync de alterações que ninguém espera
+     * @param registrosPorCheckpoint alterações entre checkpoints automáticos; 0 desliga
+     */
+    public static RosterDuravel abrir(Path dir, GenericLinkedList<Aluno> lista, Sincronismo sincronismo,
+                                      Duration intervalo, long registrosPorCheckpoint) throws IOException {
+        Objects.requireNonNull(lista, "Lista não pode ser null");
+        return abrir(dir, new Alvo() {
+            public boolean ordenada() { return lista.isOrdenada(); }
+            public int tamanho() { return lista.tamanho(); }
+            public void adicionar(Aluno a) { lista.adicionar(a); }
+            public void adicionarTodos(List<Aluno> alunos) { lista.adicionarTodos(alunos); }
+            public void adicionarPosicao(int indice, Aluno a) { lista.adicionarPosicao(indice, a); }
+            public Aluno pesquisar(Aluno chave) { return lista.pesquisar(chave); }
+            public Aluno remover(Aluno chave) { return lista.remover(chave); }
+            public Conteudo copia() {
+                List<Aluno> c = new ArrayList<>(lista.tamanho());
+                for (Aluno a : lista) c.add(a);
+                return new Conteudo(c, c.size());
+            }
+        }, sincronismo, intervalo, registrosPorCheckpoint);
+    }
+
+    public static RosterDuravel abrir(Path dir, ListaVersionada<Aluno> lista) throws IOException {
+        return abrir(dir, lista, Sincronismo.GRUPO, Duration.ofMillis(10), 1_000_000);
+    }
+
+    public static RosterDuravel abrir(Path dir, ListaVersionada<Aluno> lista, Sincronismo sincronismo,
+                                      Duration intervalo, long registrosPorCheckpoint) throws IOException {
+        Objects.requireNonNull(lista, "Lista não pode ser null");
+        return abrir(dir, new Alvo() {
+            public boolean ordenada() { return lista.isOrdenada(); }
+            public int tamanho() { return lista.tamanho(); }
+            public void adicionar(Aluno a) { lista.adicionar(a); }
+            public void adicionarTodos(List<Aluno> alunos) { lista.adicionarTodos(alunos); }
+            public void adicionarPosicao(int indice, Aluno a) { lista.adicionarPosicao(indice, a); }
+            public Aluno pesquisar(Aluno chave) { return lista.pesquisar(chave); }
+            public Aluno remover(Aluno chave) { return lista.remover(chave); }
+            public Conteudo copia() {
+                ListaVersionada.Versao<Aluno> v = lista.snapshot();
+                return new Conteudo(v, v.tamanho());
+            }
+        }, sincronismo, intervalo, registrosPorCheckpoint);
+    }
+
+    private static RosterDuravel abrir(Path dir, Alvo alvo, Sincronismo sincronismo, Duration intervalo,
+                                       long registrosPorCheckpoint) throws IOException {
+        Objects.requireNonNull(dir, "Diretório não pode ser null");
+        Objects.requireNonNull(sincronismo, "Sincronismo não pode ser null");
+        if (registrosPorCheckpoint < 0) throw new IllegalArgumentException("Intervalo de checkpoint inválido");
+        if (alvo.tamanho() != 0) throw new IllegalArgumentException("A lista a restaurar deve estar vazia");
+        Files.createDirectories(dir);
+        RosterDuravel r = new RosterDuravel(dir, alvo, sincronismo, registrosPorCheckpoint);
+        long seq = r.restaurarCheckpoint();
+        long ultima = LogOperacoes.reproduzir(dir, seq, r::aplicar);
+        r.descartarLote(); // lote cortado no fim do log: nunca foi aplicado por inteiro
+        r.desdeCheckpoint = ultima - seq;
+        r.log = LogOperacoes.abrir(dir, ultima + 1, intervalo, LIMITE_BUFFER);
+        return r;
+    }
+
+    // ------------------------------------------------------------------
+    // Alterações
+    // ------------------------------------------------------------------
+
+    public void adicionar(Aluno aluno) throws IOException {
+        Objects.requireNonNull(aluno, "Aluno não pode ser null");
+        long seq;
+        trava.lock();
+        try {
+            seq = log.anexar(LogOperacoes.ADICIONAR, 0, aluno.getMatricula(), aluno.getNome(), aluno.getNota());
+            alvo.adicionar(aluno);
+            contar(1);
+        } finally {
+            trava.unlock();
+        }
+        concluir(seq);
+    }
+
+    /**
+     * Adiciona todos de uma vez na lista (uma carga em lote) e com um único fsync. No
+     * log, o lote começa com um registro com o tamanho dele, seguido de um registro por
+     * aluno com quantos faltam para o fim; a restauração só aplica lotes que começam
+     * assim e chegam completos, então registros de um lote cortado por uma queda nunca
+     * se juntam a um lote posterior.
+     */
+    public void adicionarTodos(Collection<? extends Aluno> alunos) throws IOException {
+        List<Aluno> lote = new ArrayList<>(alunos);
+        if (lote.isEmpty()) return;
+        for (Aluno a : lote) Objects.requireNonNull(a, "Aluno não pode ser null");
+        long seq = 0;
+        trava.lock();
+        try {
+            log.anexar(LogOperacoes.INICIO_LOTE, lote.size(), "", "", 0f);
+            for (int i = 0; i < lote.size(); i++) {
+                Aluno a = lote.get(i);
+                seq = log.anexar(LogOperacoes.ADICIONAR_LOTE, lote.size() - i, a.getMatricula(), a.getNome(),
+                        a.getNota());
+            }
+            alvo.adicionarTodos(lote);
+            contar(lote.size());
+        } finally {
+            trava.unlock();
+        }
+        concluir(seq);
+    }
+
+    /** Só em lista NÃO ordenada; índice inválido lança exceção e não entra no log. */
+    public void adicionarPosicao(int indice, Aluno aluno) throws IOException {
+        Objects.requireNonNull(aluno, "Aluno não pode ser null");
+        long seq;
+        trava.lock();
+        try {
+            if (alvo.ordenada()) {
+                throw new IllegalStateException(
+                        "Inserção por posição não permitida em lista ORDENADA; use adicionar(T) para manter a ordem.");
+            }
+            if (indice < 0 || indice > alvo.tamanho()) {
+                throw new IndexOutOfBoundsException("Índice fora do intervalo: " + indice + " (tamanho=" + alvo.tamanho() + ")");
+            }
+            seq = log.anexar(LogOperacoes.INSERIR, indice, aluno.getMatricula(), aluno.getNome(), aluno.getNota());
+            alvo.adicionarPosicao(indice, aluno);
+            contar(1);
+        } finally {
+            trava.unlock();
+        }
+        concluir(seq);
+    }
+
+    /** Remove o aluno da matrícula e o retorna; null (e nada no log) se não houver. */
+    public Aluno remover(String matricula) throws IOException {
+        Objects.requireNonNull(matricula, "Matrícula não pode ser null");
+        Aluno chave = new Aluno(matricula, "");
+        Aluno removido;
+        long seq;
+        trava.lock();
+        try {
+            if (alvo.pesquisar(chave) == null) return null;
+            seq = log.anexar(LogOperacoes.REMOVER, 0, matricula, "", 0f);
+            removido = alvo.remover(chave);
+            contar(1);
+        } finally {
+            trava.unlock();
+        }
+        concluir(seq);
+        return removido;
+    }
+
+    private void contar(long n) {
+        desdeCheckpoint += n;
+        if (registrosPorCheckpoint > 0 && desdeCheckpoint >= registrosPorCheckpoint && !checkpointPendente) {
+            checkpointPendente = true;
+            Thread t = new Thread(() -> {
+                try {
+                    checkpoint();
+                } catch (IOException e) {
+                    falhaCheckpoint = e;
+                }
+            }, "checkpoint-roster");
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    private void concluir(long seq) throws IOException {
+        if (sincronismo == Sincronismo.GRUPO) log.aguardarDuravel(seq);
+    }
+
+    /**
+     * Aplica um registro do log durante a restauração; um lote, quando chega o último
+     * registro dele. Um lote interrompido (queda ou falha do log no meio dele) não chegou
+     * à lista ao vivo e é descartado, assim como registros de lote sem o início.
+     */
+    private void aplicar(LogOperacoes.Registro r) {
+        if (esperadosNoLote > 0 && r.tipo() != LogOperacoes.ADICIONAR_LOTE) descartarLote();
+        switch (r.tipo()) {
+            case LogOperacoes.ADICIONAR -> alvo.adicionar(new Aluno(r.matricula(), r.nome(), r.nota()));
+            case LogOperacoes.INICIO_LOTE -> esperadosNoLote = r.indice();
+            case LogOperacoes.ADICIONAR_LOTE -> {
+                if (esperadosNoLote == 0 || r.indice() != esperadosNoLote - loteReproduzido.size()) {
+                    descartarLote();
+                    return;
+                }
+                loteReproduzido.add(new Aluno(r.matricula(), r.nome(), r.nota()));
+                if (loteReproduzido.size() == esperadosNoLote) { // último do lote: entra como entrou ao vivo
+                    alvo.adicionarTodos(new ArrayList<>(loteReproduzido));
+                    descartarLote();
+                }
+            }
+            case LogOperacoes.INSERIR -> alvo.adicionarPosicao(r.indice(), new Aluno(r.matricula(), r.nome(), r.nota()));
+            case LogOperacoes.REMOVER -> alvo.remover(new Aluno(r.matricula(), ""));
+            default -> throw new IllegalStateException("Tipo de registro desconhecido no log: " + r.tipo());
+        }
+    }
+
+    private void descartarLote() {
+        loteReproduzido.clear();
+        esperadosNoLote = 0;
+    }
+
+    // ------------------------------------------------------------------
+    // Checkpoint
+    // ------------------------------------------------------------------
+
+    /**
+     * Grava o conteúdo atual e descarta o log até ele. As alterações só ficam paradas
+     * enquanto o conteúdo é capturado e o log troca de segmento.
+     */
+    public void checkpoint() throws IOException {
+        checkpointando.lock();
+        try {
+            Conteudo conteudo;
+            long seq;
+            trava.lock();
+            try {
+                conteudo = alvo.copia();
+                seq = log.rolar();
+                desdeCheckpoint = 0;
+            } finally {
+                trava.unlock();
+            }
+            try {
+                gravarCheckpoint(conteudo, seq);
+                log.apagarAte(seq);
+            } finally {
+                trava.lock();
+                try {
+                    checkpointPendente = false;
+                    checkpoints++;
+                } finally {
+                    trava.unlock();
+                }
+            }
+        } finally {
+            checkpointando.unlock();
+        }
+    }
+
+    private void gravarCheckpoint(Conteudo conteudo, long seq) throws IOException {
+        Path tmp = dir.resolve(CHECKPOINT + ".tmp");
+        try (FileChannel canal = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            CRC32C crc = new CRC32C();
+            OutputStream bruto = Channels.newOutputStream(canal);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(bruto, crc), 1 << 16));
+            out.writeInt(MAGICO);
+            out.writeInt(VERSAO);
+            out.writeBoolean(alvo.ordenada());
+            out.writeLong(seq);
+            out.writeInt(conteudo.tamanho());
+            for (Aluno a : conteudo.alunos()) {
+                out.writeUTF(a.getMatricula());
+                out.writeUTF(a.getNome());
+                out.writeFloat(a.getNota());
+            }
+            out.flush();
+            new DataOutputStream(bruto).writeInt((int) crc.getValue());
+            canal.force(true);
+        }
+        Files.move(tmp, dir.resolve(CHECKPOINT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** Carrega o checkpoint, se houver, e retorna a sequência que ele cobre (0 se não há). */
+    private long restaurarCheckpoint() throws IOException {
+        Path arq = dir.resolve(CHECKPOINT);
+        if (!Files.exists(arq)) return 0;
+        CRC32C crc = new CRC32C();
+        try (InputStream bruto = new BufferedInputStream(Files.newInputStream(arq), 1 << 16)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(bruto, crc));
+            if (in.readInt() != MAGICO || in.readInt() != VERSAO) throw new IOException("Checkpoint inválido: " + arq);
+            boolean ordenada = in.readBoolean();
+            if (ordenada != alvo.ordenada()) {
+                throw new IOException("Checkpoint de lista " + (ordenada ? "ORDENADA" : "NÃO ORDENADA")
+                        + ", mas a lista informada não é");
+            }
+            long seq = in.readLong();
+            int n = in.readInt();
+            List<Aluno> alunos = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) alunos.add(new Aluno(in.readUTF(), in.readUTF(), in.readFloat()));
+            int calculado = (int) crc.getValue();
+            if (new DataInputStream(bruto).readInt() != calculado) throw new IOException("Checkpoint corrompido: " + arq);
+            alvo.adicionarTodos(alunos); // já na ordem da lista
+            return seq;
+        }
+    }
+
+    /** Leva ao disco as alterações ainda pendentes (útil no modo INTERVALO). */
+    public void sincronizar() throws IOException {
+        log.sincronizarTudo();
+    }
+
+    /** Sequência da última alteração registrada. */
+    public long getUltimaSeq() { return log.getUltimaSeq(); }
+
+    public long getCheckpoints() {
+        trava.lock();
+        try {
+            return checkpoints;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Erro do último checkpoint automático, se houve. */
+    public IOException getFalhaCheckpoint() { return falhaCheckpoint; }
+
+    /** Leva o pendente ao disco e fecha o log (sem checkpoint). */
+    @Override
+    public void close() throws IOException {
+        checkpointando.lock();
+        try {
+            log.close();
+        } finally {
+            checkpointando.unlock();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Interpreta linhas {@code matrícula;nome;nota} direto dos bytes de um ByteBuffer
+ * (tipicamente um arquivo mapeado): procura ';' e '\n' byte a byte, converte os
+ * números sem criar Strings e decodifica só o nome, em UTF-8.
+ *
+ * A nota é opcional (linhas {@code matrícula;nome} valem nota 0). Aceita '\r\n',
+ * ponto ou vírgula como separador decimal, e ignora linhas vazias.
+ */
+final class AnalisadorLinhas {
+    private static final double[] POTENCIAS_10 = {1, 10, 100, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+
+    private final ConsumidorRegistro consumidor;
+    private byte[] nome = new byte[64];
+    private long registros;
+
+    AnalisadorLinhas(ConsumidorRegistro consumidor) {
+        this.consumidor = consumidor;
+    }
+
+    long registros() { return registros; }
+
+    /**
+     * Consome as linhas completas de {@code buf[ini, fim)}. Se {@code fimDosDados}, a
+     * última linha vale mesmo sem '\n'; caso contrário, uma linha incompleta no fim é
+     * deixada para a próxima chamada. Retorna a posição logo após a última linha consumida.
+     */
+    int parsear(ByteBuffer buf, int ini, int fim, boolean fimDosDados) {
+        int p = ini;
+        while (p < fim) {
+            int quebra = indiceDe(buf, (byte) '\n', p, fim);
+            if (quebra < 0 && !fimDosDados) return p;
+            int fimLinha = quebra < 0 ? fim : quebra;
+            if (fimLinha > p && buf.get(fimLinha - 1) == '\r') fimLinha--;
+            if (fimLinha > p) registro(buf, p, fimLinha);
+            p = quebra < 0 ? fim : quebra + 1;
+        }
+        return p;
+    }
+
+    private void registro(ByteBuffer buf, int ini, int fim) {
+        int i = ini;
+        boolean negativa = buf.get(i) == '-';
+        if (negativa) i++;
+        int matricula = 0;
+        int inicioDigitos = i;
+        for (; i < fim; i++) {
+            int d = buf.get(i) - '0';
+            if (d < 0 || d > 9) break;
+            if (matricula > (Integer.MAX_VALUE - d) / 10) throw invalido(buf, ini, fim);
+            matricula = matricula * 10 + d;
+        }
+        if (i == inicioDigitos || i >= fim || buf.get(i) != ';') throw invalido(buf, ini, fim);
+
+        int inicioNome = ++i;
+        while (i < fim && buf.get(i) != ';') i++;
+        String n = decodificar(buf, inicioNome, i);
+
+        float nota = i < fim ? nota(buf, i + 1, fim) : 0f;
+        registros++;
+        consumidor.registro(negativa ? -matricula : matricula, n, nota);
+    }
+
+    /** Nota no formato [d+][.d+]; cai para Float.parseFloat em casos incomuns (expoente, muitos dígitos). */
+    private float nota(ByteBuffer buf, int ini, int fim) {
+        while (fim > ini && buf.get(fim - 1) == ' ') fim--;
+        long mantissa = 0;
+        int digitos = 0;
+        int casas = -1; // -1 => ainda não viu o separador decimal
+        for (int i = ini; i < fim; i++) {
+            byte b = buf.get(i);
+            if ((b == '.' || b == ',') && casas < 0) {
+                casas = 0;
+                continue;
+            }
+            int d = b - '0';
+            if (d < 0 || d > 9 || digitos >= 18) {
+                String texto = decodificar(buf, ini, fim).replace(',', '.');
+                try {
+                    return Float.parseFloat(texto);
+                } catch (NumberFormatException e) {
+                    throw new NumberFormatException("Nota inválida: '" + texto + "'");
+                }
+            }
+            mantissa = mantissa * 10 + d;
+            digitos++;
+            if (casas >= 0) casas++;
+        }
+        if (digitos == 0) throw new NumberFormatException("Nota inválida: '" + decodificar(buf, ini, fim) + "'");
+        if (casas <= 0) return mantissa;
+        if (casas < POTENCIAS_10.length) return (float) (mantissa / POTENCIAS_10[casas]);
+        return (float) (mantissa / Math.pow(10, casas));
+    }
+
+    private String decodificar(ByteBuffer buf, int ini, int fim) {
+        int n = fim - ini;
+        if (n > nome.length) nome = new byte[Math.max(n, nome.length * 2)];
+        buf.get(ini, nome, 0, n);
+        return new String(nome, 0, n, StandardCharsets.UTF_8);
+    }
+
+    private NumberFormatException invalido(ByteBuffer buf, int ini, int fim) {
+        return new NumberFormatException("Registro inválido: '" + decodificar(buf, ini, fim) + "'");
+    }
+
+    static int indiceDe(ByteBuffer buf, byte alvo, int ini, int fim) {
+        for (int i = ini; i < fim; i++) {
+            if (buf.get(i) == alvo) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.io;
+
+import org.example.Aluno;
+import org.example.GenericLinkedList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Carga paralela do arquivo de alunos: o arquivo é dividido em faixas de bytes
+ * alinhadas em '\n' e cada faixa é interpretada (via {@link LeitorAlunosMapeado})
+ * por um worker de um {@link ForkJoinPool}. As partes são depois concatenadas na
+ * ordem do arquivo ou, para uma GenericLinkedList ordenada, ordenadas em paralelo
+ * por faixa e unidas por um merge de k vias.
+ *
+ * O número de registros do cabeçalho é usado para dimensionar as listas.
+ */
+public final class CarregadorAlunosParalelo {
+    private static final int FAIXAS_POR_THREAD = 4;
+
+    private CarregadorAlunosParalelo() {}
+
+    /** Carrega todos os alunos, na ordem do arquivo, usando o pool comum. */
+    public static List<Aluno> carregar(Path arquivo) throws IOException {
+        List<Aluno> alunos = new ArrayList<>();
+        carregar(arquivo, alunos, ForkJoinPool.commonPool());
+        return alunos;
+    }
+
+    /** Acrescenta ao destino todos os alunos, na ordem do arquivo. */
+    public static void carregar(Path arquivo, Collection<? super Aluno> destino, ForkJoinPool pool) throws IOException {
+        Partes partes = lerPartes(arquivo, pool, null);
+        if (destino instanceof ArrayList<?> lista) lista.ensureCapacity(destino.size() + partes.total());
+        for (List<Aluno> parte : partes.listas()) destino.addAll(parte);
+    }
+
+    /**
+     * Carrega para a GenericLinkedList. Lista não ordenada: concatenação na ordem do
+     * arquivo. Lista ordenada: cada faixa é ordenada pelo seu worker com o comparator
+     * da lista, as faixas são unidas por merge de k vias e o resultado, já em ordem,
+     * entra por adicionarTodos sem nova ordenação.
+     */
+    public static void carregar(Path arquivo, GenericLinkedList<Aluno> destino, ForkJoinPool pool) throws IOException {
+        if (!destino.isOrdenada()) {
+            Partes partes = lerPartes(arquivo, pool, null);
+            for (List<Aluno> parte : partes.listas()) destino.adicionarTodos(parte);
+            return;
+        }
+        Comparator<? super Aluno> comparator = destino.getComparator();
+        Partes partes = lerPartes(arquivo, pool, comparator);
+        destino.adicionarTodos(intercalar(partes, comparator));
+    }
+
+    private record Partes(List<List<Aluno>> listas, int total) {}
+
+    private static Partes lerPartes(Path arquivo, ForkJoinPool pool, Comparator<? super Aluno> ordenarPor)
+            throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            LeitorAlunosMapeado.Cabecalho cab = LeitorAlunosMapeado.cabecalho(canal);
+            long[] limites = limites(canal, cab.fim(), canal.size(), pool.getParallelism() * FAIXAS_POR_THREAD);
+            int faixas = limites.length - 1;
+
+            List<List<Aluno>> listas = new ArrayList<>(faixas);
+            long bytesDados = Math.max(1, canal.size() - cab.fim());
+            for (int i = 0; i < faixas; i++) {
+                long estimativa = (long) Math.max(0, cab.numRegistros()) * (limites[i + 1] - limites[i]) / bytesDados;
+                listas.add(new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, estimativa + 16)));
+            }
+            try {
+                pool.invoke(new TarefaCarga(canal, limites, listas, ordenarPor, 0, faixas));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            int total = 0;
+            for (List<Aluno> l : listas) total += l.size();
+            return new Partes(listas, total);
+        }
+    }
+
+    /**
+     * Divide [ini, fim) em até {@code faixas} intervalos, avançando cada corte até logo
+     * depois do próximo '\n' (nenhuma linha fica partida entre duas faixas). Faixas
+     * nunca passam do tamanho de uma janela de mapeamento.
+     */
+    static long[] limites(FileChannel canal, long ini, long fim, int faixas) throws IOException {
+        long tamanho = fim - ini;
+        long porFaixa = Math.max(1, Math.min(LeitorAlunosMapeado.JANELA, (tamanho + faixas - 1) / Math.max(1, faixas)));
+        List<Long> cortes = new ArrayList<>();
+        cortes.add(ini);
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long pos = ini;
+        while (pos + porFaixa < fim) {
+            long corte = proximaLinha(canal, pos + porFaixa, fim, buf);
+            if (corte >= fim) break;
+            cortes.add(corte);
+            pos = corte;
+        }
+        cortes.add(fim);
+        long[] r = new long[cortes.size()];
+        for (int i = 0; i < r.length; i++) r[i] = cortes.get(i);
+        return r;
+    }
+
+    /** Posição logo após o primeiro '\n' em [pos, fim), ou fim se não houver. */
+    private static long proximaLinha(FileChannel canal, long pos, long fim, ByteBuffer buf) throws IOException {
+        while (pos < fim) {
+            buf.clear();
+            int lidos = canal.read(buf, pos);
+            if (lidos <= 0) return fim;
+            int i = AnalisadorLinhas.indiceDe(buf, (byte) '\n', 0, lidos);
+            if (i >= 0) return pos + i + 1;
+            pos += lidos;
+        }
+        return fim;
+    }
+
+    /** Fork/join sobre o intervalo de faixas [de, ate): divide ao meio até restar uma. */
+    private static final class TarefaCarga extends RecursiveAction {
+        private final FileChannel canal;
+        private final long[] limites;
+        private final List<List<Aluno>> listas;
+        private final Comparator<? super Aluno> ordenarPor;
+        private final int de, ate;
+
+        TarefaCarga(FileChannel canal, long[] limites, List<List<Aluno>> listas,
+                    Comparator<? super Aluno> ordenarPor, int de, int ate) {
+            this.canal = canal;
+            this.limites = limites;
+            this.listas = listas;
+            this.ordenarPor = ordenarPor;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > 1) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new TarefaCarga(canal, limites, listas, ordenarPor, de, meio),
+                          new TarefaCarga(canal, limites, listas, ordenarPor, meio, ate));
+                return;
+            }
+            List<Aluno> destino = listas.get(de);
+            try {
+                LeitorAlunosMapeado.lerIntervalo(canal, limites[de], limites[de + 1],
+                        (matricula, nome, nota) -> destino.add(new Aluno(Integer.toString(matricula), nome, nota)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (ordenarPor != null) destino.sort(ordenarPor);
+        }
+    }
+
+    /**
+     * Merge de k vias das faixas já ordenadas, em O(n log k). Empates saem na ordem
+     * das faixas (ou seja, na ordem do arquivo), preservando a estabilidade.
+     */
+    static List<Aluno> intercalar(Partes partes, Comparator<? super Aluno> comparator) {
+        List<List<Aluno>> listas = partes.listas();
+        List<Aluno> saida = new ArrayList<>(partes.total());
+        int[] posicao = new int[listas.size()];
+        PriorityQueue<Integer> fila = new PriorityQueue<>(Math.max(1, listas.size()), (a, b) -> {
+            int cmp = comparator.compare(listas.get(a).get(posicao[a]), listas.get(b).get(posicao[b]));
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+        for (int i = 0; i < listas.size(); i++) {
+            if (!listas.get(i).isEmpty()) fila.add(i);
+        }
+        while (!fila.isEmpty()) {
+            int i = fila.poll();
+            List<Aluno> l = listas.get(i);
+            saida.add(l.get(posicao[i]++));
+            if (posicao[i] < l.size()) fila.add(i);
+        }
+        return saida;
+    }
+}
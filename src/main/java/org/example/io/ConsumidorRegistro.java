@@ -0,0 +1,10 @@
+package org.example.io;
+
+/**
+ * Recebe cada registro do arquivo de alunos ({@code matrícula;nome;nota}) já
+ * decodificado, sem Strings intermediárias para os campos numéricos.
+ */
+@FunctionalInterface
+public interface ConsumidorRegistro {
+    void registro(int matricula, String nome, float nota);
+}
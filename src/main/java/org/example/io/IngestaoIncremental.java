@@ -0,0 +1,192 @@
+package org.example.io;
+
+import org.example.Aluno;
+import org.example.GenericLinkedList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Ingestão incremental de um arquivo de alunos que cresce por anexação no fim.
+ *
+ * Guarda a posição (em bytes) até onde o arquivo já foi consumido. Cada
+ * {@link #atualizar()} mapeia só o trecho novo, procura de trás para frente a última
+ * quebra de linha (uma linha ainda incompleta fica para a próxima vez) e interpreta as
+ * linhas com o mesmo analisador de {@link LeitorAlunosMapeado}. O custo é proporcional
+ * aos dados novos, não ao tamanho do arquivo. A linha de cabeçalho (número de
+ * registros) só é usada para achar o início dos dados e pode ficar desatualizada.
+ *
+ * Os alunos novos de cada atualização são entregues juntos ao destino, na ordem do
+ * arquivo (ex.: {@link GenericLinkedList#adicionarTodos}, que intercala o lote inteiro
+ * em uma passada). A primeira atualização lê o arquivo todo desde o cabeçalho, a menos
+ * que se informe a posição inicial.
+ *
+ * {@link #acompanhar} faz as atualizações em uma thread própria, acordada pelo
+ * {@link WatchService} do diretório ou, no máximo, a cada {@code intervalo} (há sistemas
+ * de arquivos que não avisam modificações). Nesse caso o destino é chamado nessa thread:
+ * para uma lista usada por outras threads, entregue a um {@code PipelineEscritaLista}.
+ */
+public final class IngestaoIncremental implements Closeable {
+    static final int BLOCO_BUSCA = 1 << 12;
+
+    private final Path arquivo;
+    private final Consumer<? super List<Aluno>> destino;
+    private long deslocamento; // -1 => ainda não leu o cabeçalho
+    private long registros;
+
+    private Thread observadora;
+    private WatchService watcher;
+    private volatile IOException falha;
+
+    /** Começa do início dos dados (logo após o cabeçalho). */
+    public IngestaoIncremental(Path arquivo, Consumer<? super List<Aluno>> destino) {
+        this(arquivo, destino, -1);
+    }
+
+    /**
+     * @param deslocamento posição (início de linha) a partir da qual ler; -1 => após o cabeçalho
+     */
+    public IngestaoIncremental(Path arquivo, Consumer<? super List<Aluno>> destino, long deslocamento) {
+        this.arquivo = Objects.requireNonNull(arquivo, "Arquivo não pode ser null");
+        this.destino = Objects.requireNonNull(destino, "Destino não pode ser null");
+        if (deslocamento < -1) throw new IllegalArgumentException("Deslocamento inválido: " + deslocamento);
+        this.deslocamento = deslocamento;
+    }
+
+    public static IngestaoIncremental paraLista(Path arquivo, GenericLinkedList<Aluno> lista) {
+        Objects.requireNonNull(lista, "Lista não pode ser null");
+        return new IngestaoIncremental(arquivo, lista::adicionarTodos);
+    }
+
+    public static IngestaoIncremental paraColecao(Path arquivo, Collection<? super Aluno> colecao) {
+        Objects.requireNonNull(colecao, "Coleção não pode ser null");
+        return new IngestaoIncremental(arquivo, colecao::addAll);
+    }
+
+    /** Posição do primeiro byte ainda não consumido (-1 antes da primeira atualização). */
+    public synchronized long getDeslocamento() { return deslocamento; }
+
+    /** Total de registros entregues ao destino. */
+    public synchronized long getRegistros() { return registros; }
+
+    /** Erro que encerrou o acompanhamento em segundo plano, se houve. */
+    public IOException getFalha() { return falha; }
+
+    /**
+     * Lê as linhas completas anexadas desde a última chamada e as entrega ao destino.
+     * Retorna quantos registros foram lidos (0 se nada mudou).
+     *
+     * @throws IOException se o arquivo diminuiu (foi truncado ou substituído)
+     */
+    public synchronized long atualizar() throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (deslocamento < 0) deslocamento = LeitorAlunosMapeado.cabecalho(canal).fim();
+            long tamanho = canal.size();
+            if (tamanho < deslocamento) {
+                throw new IOException("Arquivo diminuiu de " + deslocamento + " para " + tamanho
+                        + " bytes; não é possível continuar a partir da posição anterior");
+            }
+            long fim = fimDaUltimaLinha(canal, deslocamento, tamanho);
+            if (fim <= deslocamento) return 0;
+
+            List<Aluno> novos = new ArrayList<>();
+            long lidos = LeitorAlunosMapeado.lerIntervalo(canal, deslocamento, fim,
+                    (matricula, nome, nota) -> novos.add(new Aluno(Integer.toString(matricula), nome, nota)));
+            deslocamento = fim;
+            registros += lidos;
+            if (!novos.isEmpty()) destino.accept(novos);
+            return lidos;
+        }
+    }
+
+    /**
+     * Posição logo após o último '\n' em {@code [ini, fim)}, lendo blocos de trás para
+     * frente; {@code ini} se não houver linha completa.
+     */
+    static long fimDaUltimaLinha(FileChannel canal, long ini, long fim) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(BLOCO_BUSCA);
+        long ate = fim;
+        while (ate > ini) {
+            long de = Math.max(ini, ate - BLOCO_BUSCA);
+            buf.clear().limit((int) (ate - de));
+            while (buf.hasRemaining()) {
+                if (canal.read(buf, de + buf.position()) < 0) throw new IOException("Fim inesperado do arquivo");
+            }
+            for (int i = buf.limit() - 1; i >= 0; i--) {
+                if (buf.get(i) == '\n') return de + i + 1;
+            }
+            ate = de;
+        }
+        return ini;
+    }
+
+    /**
+     * Passa a atualizar em segundo plano quando o arquivo muda (ou a cada
+     * {@code intervalo}, no máximo). Uma falha de leitura encerra o acompanhamento e
+     * fica em {@link #getFalha()}.
+     */
+    public synchronized void acompanhar(Duration intervalo) throws IOException {
+        Objects.requireNonNull(intervalo, "Intervalo não pode ser null");
+        if (observadora != null) throw new IllegalStateException("Acompanhamento já iniciado");
+        Path dir = arquivo.toAbsolutePath().getParent();
+        watcher = FileSystems.getDefault().newWatchService();
+        dir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        WatchService w = watcher;
+        long espera = intervalo.toMillis();
+        observadora = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    WatchKey chave = w.poll(espera, TimeUnit.MILLISECONDS);
+                    if (chave != null) {
+                        chave.pollEvents(); // qualquer evento no diretório: confere o tamanho
+                        chave.reset();
+                    }
+                    atualizar();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException | ClosedByInterruptException e) {
+                // close()
+            } catch (IOException e) {
+                falha = e;
+            }
+        }, "ingestao-" + arquivo.getFileName());
+        observadora.setDaemon(true);
+        observadora.start();
+    }
+
+    /** Encerra o acompanhamento em segundo plano, se houver, esperando a atualização em curso. */
+    @Override
+    public void close() throws IOException {
+        Thread t;
+        synchronized (this) {
+            t = observadora;
+            observadora = null;
+            if (watcher != null) watcher.close();
+            watcher = null;
+        }
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.io;
+
+import org.example.Aluno;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitura do arquivo de alunos gerado por {@code GeradorArquivosOrdenados}
+ * (primeira linha = número de registros, depois {@code matrícula;nome;nota}) via
+ * {@link FileChannel#map}: sem BufferedReader, sem split por regex e sem Strings
+ * para os números; o único objeto criado por linha (além do Aluno) é o nome.
+ *
+ * Arquivos maiores que 2 GiB são mapeados em janelas de até 1 GiB, sempre
+ * começando no início de uma linha.
+ */
+public final class LeitorAlunosMapeado {
+    static final long JANELA = 1L << 30;
+
+    private LeitorAlunosMapeado() {}
+
+    /** Número de registros declarado na primeira linha do arquivo. */
+    public static int lerCabecalho(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            return cabecalho(canal).numRegistros();
+        }
+    }
+
+    /** Entrega cada registro ao consumidor, na ordem do arquivo; retorna quantos foram lidos. */
+    public static long ler(Path arquivo, ConsumidorRegistro consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            return lerIntervalo(canal, cabecalho(canal).fim(), canal.size(), consumidor);
+        }
+    }
+
+    /** Lê todos os alunos para uma lista já dimensionada pelo cabeçalho. */
+    public static List<Aluno> lerAlunos(Path arquivo) throws IOException {
+        List<Aluno> alunos = new ArrayList<>(Math.max(0, lerCabecalho(arquivo)));
+        lerAlunos(arquivo, alunos::add);
+        return alunos;
+    }
+
+    public static long lerAlunos(Path arquivo, Consumer<? super Aluno> destino) throws IOException {
+        return ler(arquivo, (matricula, nome, nota) -> destino.accept(new Aluno(Integer.toString(matricula), nome, nota)));
+    }
+
+    /**
+     * Lê as linhas em {@code [ini, fim)} do canal; {@code ini} deve ser início de linha
+     * e {@code fim}, fim de linha ou do arquivo. Retorna o número de registros.
+     */
+    static long lerIntervalo(FileChannel canal, long ini, long fim, ConsumidorRegistro consumidor) throws IOException {
+        AnalisadorLinhas analisador = new AnalisadorLinhas(consumidor);
+        long pos = ini;
+        while (pos < fim) {
+            long tamanho = Math.min(JANELA, fim - pos);
+            boolean ultima = pos + tamanho == fim;
+            MappedByteBuffer janela = canal.map(FileChannel.MapMode.READ_ONLY, pos, tamanho);
+            int consumido = analisador.parsear(janela, 0, (int) tamanho, ultima);
+            if (consumido == 0) {
+                throw new IOException("Linha maior que a janela de mapeamento na posição " + pos);
+            }
+            pos += consumido;
+        }
+        return analisador.registros();
+    }
+
+    record Cabecalho(int numRegistros, long fim) {}
+
+    /** Primeira linha: número de registros. {@code fim} é a posição da primeira linha de dados. */
+    static Cabecalho cabecalho(FileChannel canal) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(64);
+        canal.read(buf, 0);
+        buf.flip();
+        int quebra = AnalisadorLinhas.indiceDe(buf, (byte) '\n', 0, buf.limit());
+        if (quebra < 0 && buf.limit() == buf.capacity()) {
+            throw new IOException("Cabeçalho inválido: primeira linha longa demais");
+        }
+        int fimLinha = quebra < 0 ? buf.limit() : quebra;
+        String texto = new String(buf.array(), 0, fimLinha, StandardCharsets.US_ASCII).trim();
+        if (texto.isEmpty()) throw new IOException("Arquivo sem cabeçalho (número de registros)");
+        return new Cabecalho(Integer.parseInt(texto), quebra < 0 ? fimLinha : quebra + 1);
+    }
+}
@@ -0,0 +1,428 @@
+package org.example.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de escrita antecipada (WAL) das alterações de um cadastro de alunos: adicionar
+ * (um a um ou em lote), remover e inserir em posição, numeradas por uma sequência crescente.
+ *
+ * O log é uma série de segmentos {@code <primeira sequência>.wal} em um diretório, só
+ * anexados. Cada registro leva tamanho, CRC32C e o corpo (sequência, tipo, índice,
+ * matrícula, nome, nota); um registro cortado por uma queda ou com CRC inválido marca o fim
+ * daquele segmento. Cada abertura começa um segmento novo, então nunca se anexa depois
+ * de um final danificado.
+ *
+ * {@link #anexar} só codifica o registro em um buffer na memória. Uma thread própria
+ * grava o buffer e chama {@code force} (fsync) para todos os registros acumulados de uma
+ * vez (group commit): quando alguém espera em {@link #aguardarDuravel}, assim que a
+ * gravação anterior termina; senão, a cada {@code intervalo} ou quando o buffer passa de
+ * {@code limiteBuffer}. Não há um fsync por operação.
+ *
+ * As esperas usam {@link ReentrantLock}, que não prende a thread portadora quando quem
+ * espera é uma thread virtual (ex.: uma conexão do {@code ServidorRoster}).
+ */
+public final class LogOperacoes implements Closeable {
+    public static final byte ADICIONAR = 1;
+    public static final byte REMOVER = 2;
+    public static final byte INSERIR = 3;
+    /** Um elemento de um lote de adições; {@code indice} = quantos registros faltam no lote, contando este. */
+    public static final byte ADICIONAR_LOTE = 4;
+    /** Início de um lote de adições; {@code indice} = tamanho do lote, matrícula e nome vazios. */
+    public static final byte INICIO_LOTE = 5;
+
+    static final int MAGICO = 0x57414C41; // "WALA"
+    static final int VERSAO = 2; // 2: registros com nota
+    static final int TAM_CABECALHO = 8;
+    static final String EXTENSAO = ".wal";
+
+    /** Quando quem altera o cadastro espera o registro chegar ao disco. */
+    public enum Sincronismo {
+        /** Cada alteração retorna só depois do fsync que a cobre (compartilhado com as concorrentes). */
+        GRUPO,
+        /** Alterações retornam logo; uma queda perde no máximo o último {@code intervalo}. */
+        INTERVALO
+    }
+
+    /** Registro lido do log; {@code indice} só vale para INSERIR, INICIO_LOTE e ADICIONAR_LOTE, e {@code nome} é vazio em REMOVER. */
+    public record Registro(long seq, byte tipo, int indice, String matricula, String nome, float nota) {}
+
+    private final Path dir;
+    private final long intervaloNanos;
+    private final int limiteBuffer;
+    private final ReentrantLock escrita = new ReentrantLock(); // ordem: escrita -> trava
+    private final ReentrantLock trava = new ReentrantLock();    // buffer, sequências e estado
+    private final Condition haPendentes = trava.newCondition();
+    private final Condition gravou = trava.newCondition();
+
+    private FileChannel canal; // segmento atual (sob escrita)
+    private final ByteArrayOutputStream pendentes = new ByteArrayOutputStream(1 << 16);
+    private final DataOutputStream codificador = new DataOutputStream(pendentes);
+    private final ByteArrayOutputStream corpo = new ByteArrayOutputStream(128);
+    private final DataOutputStream codificadorCorpo = new DataOutputStream(corpo);
+    private final CRC32C crc = new CRC32C();
+    private long proximaSeq;
+    private long ultimaPendente;
+    private long desdeNanos; // quando o buffer deixou de estar vazio
+    private long duravelAte;
+    private int esperando;
+    private boolean fechado;
+    private IOException falha;
+    private final Thread sincronizadora;
+
+    private LogOperacoes(Path dir, long proximaSeq, Duration intervalo, int limiteBuffer) throws IOException {
+        this.dir = dir;
+        this.intervaloNanos = Objects.requireNonNull(intervalo, "Intervalo não pode ser null").toNanos();
+        if (intervaloNanos <= 0) throw new IllegalArgumentException("Intervalo inválido: " + intervalo);
+        if (limiteBuffer < 1) throw new IllegalArgumentException("Limite de buffer inválido: " + limiteBuffer);
+        this.limiteBuffer = limiteBuffer;
+        this.proximaSeq = proximaSeq;
+        this.ultimaPendente = proximaSeq - 1;
+        this.duravelAte = proximaSeq - 1;
+        this.canal = novoSegmento(proximaSeq);
+        this.sincronizadora = new Thread(this::sincronizar, "wal-" + dir.getFileName());
+        this.sincronizadora.setDaemon(true);
+        this.sincronizadora.start();
+    }
+
+    /**
+     * Abre o log para novas alterações a partir de {@code proximaSeq}, em um segmento novo.
+     * Segmentos existentes (já reproduzidos com {@link #reproduzir}) são mantidos até
+     * {@link #apagarAte}.
+     *
+     * @param intervalo    espera máxima de um registro no buffer antes do fsync
+     * @param limiteBuffer bytes acumulados que disparam o fsync antes do intervalo
+     */
+    public static LogOperacoes abrir(Path dir, long proximaSeq, Duration intervalo, int limiteBuffer) throws IOException {
+        Objects.requireNonNull(dir, "Diretório não pode ser null");
+        if (proximaSeq < 1) throw new IllegalArgumentException("Sequência inválida: " + proximaSeq);
+        Files.createDirectories(dir);
+        return new LogOperacoes(dir, proximaSeq, intervalo, limiteBuffer);
+    }
+
+    /**
+     * Codifica uma alteração no buffer e retorna sua sequência. Não espera o disco: use
+     * {@link #aguardarDuravel} para isso. Chamadas concorrentes ficam no log na ordem em
+     * que entram aqui.
+     */
+    public long anexar(byte tipo, int indice, String matricula, String nome, float nota) throws IOException {
+        trava.lock();
+        try {
+            return anexarTravado(tipo, indice, matricula, nome, nota);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private long anexarTravado(byte tipo, int indice, String matricula, String nome, float nota)
+            throws IOException {
+        if (falha != null) throw new IOException("Log inutilizado por falha anterior", falha);
+        if (fechado) throw new IllegalStateException("Log fechado");
+        long seq = proximaSeq;
+        boolean vazio = pendentes.size() == 0;
+        corpo.reset();
+        codificadorCorpo.writeLong(seq);
+        codificadorCorpo.writeByte(tipo);
+        codificadorCorpo.writeInt(indice);
+        codificadorCorpo.writeUTF(matricula);
+        codificadorCorpo.writeUTF(nome);
+        codificadorCorpo.writeFloat(nota);
+        crc.reset();
+        crc.update(corpo.toByteArray(), 0, corpo.size());
+        codificador.writeInt(corpo.size());
+        codificador.writeInt((int) crc.getValue());
+        corpo.writeTo(codificador);
+        proximaSeq++;
+        ultimaPendente = seq;
+        if (vazio) {
+            desdeNanos = System.nanoTime();
+            haPendentes.signal(); // começa a contar o intervalo
+        } else if (pendentes.size() >= limiteBuffer) {
+            haPendentes.signal();
+        }
+        return seq;
+    }
+
+    /** Espera até o registro {@code seq} (e todos os anteriores) estarem em disco. */
+    public void aguardarDuravel(long seq) throws IOException {
+        trava.lock();
+        try {
+            if (duravelAte >= seq) return;
+            esperando++;
+            haPendentes.signal();
+            try {
+                while (duravelAte < seq && falha == null) gravou.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrompido esperando o log", e);
+            } finally {
+                esperando--;
+            }
+            if (duravelAte < seq) throw new IOException("Falha ao gravar o log", falha);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Leva ao disco tudo o que já foi anexado. */
+    public void sincronizarTudo() throws IOException {
+        aguardarDuravel(getUltimaSeq());
+    }
+
+    /** Sequência da última alteração anexada. */
+    public long getUltimaSeq() {
+        trava.lock();
+        try {
+            return proximaSeq - 1;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Sequência da última alteração já em disco. */
+    public long getDuravelAte() {
+        trava.lock();
+        try {
+            return duravelAte;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Thread de gravação (group commit)
+    // ------------------------------------------------------------------
+
+    private void sincronizar() {
+        while (true) {
+            trava.lock();
+            try {
+                while (!fechado && (pendentes.size() == 0 || (esperando == 0 && pendentes.size() < limiteBuffer
+                        && System.nanoTime() - desdeNanos < intervaloNanos))) {
+                    if (pendentes.size() == 0) {
+                        haPendentes.await();
+                    } else {
+                        haPendentes.awaitNanos(intervaloNanos - (System.nanoTime() - desdeNanos));
+                    }
+                }
+                if (fechado) return; // close() grava o que restar
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                trava.unlock();
+            }
+            try {
+                gravarPendentes();
+            } catch (IOException e) {
+                trava.lock();
+                try {
+                    falha = e;
+                    gravou.signalAll();
+                } finally {
+                    trava.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    /** Grava e faz fsync do buffer no segmento atual. */
+    private void gravarPendentes() throws IOException {
+        escrita.lock();
+        try {
+            byte[] bytes;
+            long ate;
+            trava.lock();
+            try {
+                bytes = pendentes.toByteArray();
+                pendentes.reset();
+                ate = ultimaPendente;
+            } finally {
+                trava.unlock();
+            }
+            if (bytes.length > 0) {
+                ByteBuffer buf = ByteBuffer.wrap(bytes);
+                while (buf.hasRemaining()) canal.write(buf);
+                canal.force(false);
+            }
+            trava.lock();
+            try {
+                if (ate > duravelAte) duravelAte = ate;
+                gravou.signalAll();
+            } finally {
+                trava.unlock();
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Segmentos
+    // ------------------------------------------------------------------
+
+    private FileChannel novoSegmento(long primeiraSeq) throws IOException {
+        Path arq = dir.resolve(String.format("%020d%s", primeiraSeq, EXTENSAO));
+        FileChannel c = FileChannel.open(arq, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        ByteBuffer cab = ByteBuffer.allocate(TAM_CABECALHO).putInt(MAGICO).putInt(VERSAO).flip();
+        while (cab.hasRemaining()) c.write(cab);
+        return c;
+    }
+
+    /**
+     * Leva o que está pendente ao disco e passa a anexar em um segmento novo. Retorna a
+     * última sequência do segmento anterior: um checkpoint do estado com todas as
+     * alterações até ela torna esse segmento (e os anteriores) dispensáveis. Deve ser
+     * chamado sem alterações concorrentes ao cadastro, para que esse estado exista.
+     */
+    public long rolar() throws IOException {
+        escrita.lock();
+        try {
+            gravarPendentes();
+            long ultima;
+            trava.lock();
+            try {
+                if (falha != null) throw new IOException("Log inutilizado por falha anterior", falha);
+                ultima = proximaSeq - 1;
+            } finally {
+                trava.unlock();
+            }
+            FileChannel anterior = canal;
+            canal = novoSegmento(ultima + 1);
+            anterior.close();
+            return ultima;
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /** Apaga os segmentos cujos registros são todos de sequência <= {@code seq} (nunca o atual). */
+    public void apagarAte(long seq) throws IOException {
+        List<Long> inicios = segmentos(dir);
+        for (int i = 0; i + 1 < inicios.size(); i++) {
+            if (inicios.get(i + 1) - 1 <= seq) Files.deleteIfExists(arquivoSegmento(dir, inicios.get(i)));
+        }
+    }
+
+    static Path arquivoSegmento(Path dir, long primeiraSeq) {
+        return dir.resolve(String.format("%020d%s", primeiraSeq, EXTENSAO));
+    }
+
+    /** Primeira sequência de cada segmento do diretório, em ordem. */
+    static List<Long> segmentos(Path dir) throws IOException {
+        List<Long> r = new ArrayList<>();
+        if (!Files.isDirectory(dir)) return r;
+        try (Stream<Path> arqs = Files.list(dir)) {
+            arqs.map(p -> p.getFileName().toString())
+                .filter(n -> n.endsWith(EXTENSAO) && n.length() == 20 + EXTENSAO.length())
+                .forEach(n -> r.add(Long.parseLong(n.substring(0, 20))));
+        }
+        r.sort(null);
+        return r;
+    }
+
+    /**
+     * Entrega, em ordem, os registros de sequência > {@code depoisDe} de todos os segmentos
+     * do diretório e retorna a última sequência vista ({@code depoisDe} se nenhuma). Um
+     * final de segmento cortado ou com CRC inválido é ignorado (queda no meio de uma
+     * gravação); um buraco na sequência, não.
+     */
+    public static long reproduzir(Path dir, long depoisDe, Consumer<? super Registro> destino) throws IOException {
+        long ultima = depoisDe;
+        CRC32C crc = new CRC32C();
+        for (long inicio : segmentos(dir)) {
+            Path arq = arquivoSegmento(dir, inicio);
+            try (InputStream is = Files.newInputStream(arq);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(is, 1 << 16))) {
+                try {
+                    if (in.readInt() != MAGICO || in.readInt() != VERSAO) {
+                        throw new IOException("Segmento de log inválido: " + arq);
+                    }
+                } catch (EOFException e) {
+                    continue; // criado e não escrito
+                }
+                byte[] corpo = new byte[256];
+                while (true) {
+                    int tamanho, esperado;
+                    try {
+                        tamanho = in.readInt();
+                        esperado = in.readInt();
+                        if (tamanho < 21 || tamanho > 1 << 20) break;
+                        if (corpo.length < tamanho) corpo = new byte[tamanho];
+                        in.readFully(corpo, 0, tamanho);
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    crc.reset();
+                    crc.update(corpo, 0, tamanho);
+                    if ((int) crc.getValue() != esperado) break;
+                    DataInputStream c = new DataInputStream(new ByteArrayInputStream(corpo, 0, tamanho));
+                    Registro r = new Registro(c.readLong(), c.readByte(), c.readInt(), c.readUTF(), c.readUTF(),
+                            c.readFloat());
+                    if (r.seq() <= depoisDe) continue;
+                    if (r.seq() != ultima + 1) {
+                        throw new IOException("Log sem a sequência " + (ultima + 1) + " (encontrada " + r.seq() + ") em " + arq);
+                    }
+                    destino.accept(r);
+                    ultima = r.seq();
+                }
+            }
+        }
+        return ultima;
+    }
+
+    /** Leva o pendente ao disco, encerra a thread de gravação e fecha o segmento. */
+    @Override
+    public void close() throws IOException {
+        trava.lock();
+        try {
+            if (fechado) return;
+            fechado = true;
+            haPendentes.signal();
+        } finally {
+            trava.unlock();
+        }
+        try {
+            sincronizadora.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        escrita.lock();
+        try {
+            IOException f;
+            trava.lock();
+            try {
+                f = falha;
+            } finally {
+                trava.unlock();
+            }
+            if (f == null) gravarPendentes();
+            canal.close();
+            if (f != null) throw new IOException("Log encerrado com falha", f);
+        } finally {
+            escrita.unlock();
+        }
+    }
+}
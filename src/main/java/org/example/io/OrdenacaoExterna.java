@@ -0,0 +1,350 @@
+package org.example.io;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Ordenação externa de arquivos de alunos maiores que o heap.
+ *
+ * 1. Lê a entrada em fluxo (arquivo texto via {@link LeitorAlunosMapeado} ou snapshot
+ *    via {@link SnapshotAlunos}) acumulando registros até o orçamento de memória de uma
+ *    "run"; ordena a run com o comparator escolhido e a grava como snapshot temporário.
+ * 2. Intercala as runs por merge de k vias (fila de prioridade, um registro de cada run
+ *    na memória). Com mais de {@link #MAX_VIAS} runs, intercala em grupos, em mais
+ *    de uma passada.
+ *
+ * A saída é texto no formato do gerador (primeira linha = número de registros, depois
+ * {@code matrícula;nome;nota}) ou, se o nome terminar em ".snap", um snapshot.
+ * A ordenação é estável: equivalentes saem na ordem da entrada.
+ *
+ * O orçamento é estimado a partir do tamanho dos objetos de cada registro; com o
+ * padrão (1/4 do heap máximo), {@code -Xmx512m} ordena arquivos de qualquer tamanho,
+ * limitado só pelo disco (as runs ocupam ~metade do tamanho do texto).
+ *
+ * Uso: {@code java -cp ... org.example.io.OrdenacaoExterna <entrada> <saída>
+ * [matricula|matriculaNumerica|nome] [memóriaPorRunMB]}.
+ */
+public final class OrdenacaoExterna {
+    /** Máximo de runs intercaladas de uma vez. */
+    static final int MAX_VIAS = 128;
+    /** Buffer de leitura de cada run durante a intercalação. */
+    static final int BUFFER_RUN = 1 << 17;
+    /** Custo estimado de um registro na memória, além dos caracteres do nome. */
+    static final int CUSTO_REGISTRO = 176;
+
+    private final Comparator<? super Aluno> comparator;
+    private final long memoriaRun;
+    private final Path dirTemporario;
+
+    private int runs;
+    private int passadas;
+
+    /** Registro em memória: o Aluno (para o comparator) e os campos como foram lidos. */
+    private record Registro(int matricula, Aluno aluno, float nota) {}
+
+    /** Usa 1/4 do heap máximo por run e o diretório temporário do sistema. */
+    public OrdenacaoExterna(Comparator<? super Aluno> comparator) {
+        this(comparator, Runtime.getRuntime().maxMemory() / 4, null);
+    }
+
+    /**
+     * @param memoriaRun    bytes (estimados) de registros por run
+     * @param dirTemporario onde criar as runs; null => diretório temporário do sistema
+     */
+    public OrdenacaoExterna(Comparator<? super Aluno> comparator, long memoriaRun, Path dirTemporario) {
+        this.comparator = Objects.requireNonNull(comparator, "Comparator não pode ser null");
+        if (memoriaRun < CUSTO_REGISTRO) throw new IllegalArgumentException("Memória por run insuficiente: " + memoriaRun);
+        this.memoriaRun = memoriaRun;
+        this.dirTemporario = dirTemporario;
+    }
+
+    /** Runs gravadas na última ordenação (0 se coube tudo na memória). */
+    public int getRuns() { return runs; }
+
+    /** Passadas de intercalação na última ordenação. */
+    public int getPassadas() { return passadas; }
+
+    /** Ordena {@code entrada} em {@code saida}; retorna o número de registros. */
+    public long ordenar(Path entrada, Path saida) throws IOException {
+        Objects.requireNonNull(entrada, "Entrada não pode ser null");
+        Objects.requireNonNull(saida, "Saída não pode ser null");
+        runs = 0;
+        passadas = 0;
+        Path dir = dirTemporario == null
+                ? Files.createTempDirectory("ordenacao-alunos")
+                : Files.createTempDirectory(dirTemporario, "ordenacao-alunos");
+        List<Path> arquivosRun = new ArrayList<>();
+        try {
+            List<Registro> atual = new ArrayList<>();
+            long[] memoria = {0};
+            long total;
+            try {
+                ConsumidorRegistro acumular = (matricula, nome, nota) -> {
+                    atual.add(new Registro(matricula, new Aluno(Integer.toString(matricula), nome, nota), nota));
+                    memoria[0] += CUSTO_REGISTRO + nome.length();
+                    if (memoria[0] >= memoriaRun) {
+                        try {
+                            arquivosRun.add(gravarRun(dir, arquivosRun.size(), atual));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        atual.clear();
+                        memoria[0] = 0;
+                    }
+                };
+                total = ehSnapshot(entrada)
+                        ? SnapshotAlunos.ler(entrada, acumular)
+                        : LeitorAlunosMapeado.ler(entrada, acumular);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            if (arquivosRun.isEmpty()) { // coube tudo na memória
+                Registro[] ordenados = ordenarRun(atual);
+                try (Saida s = abrirSaida(saida, total)) {
+                    for (Registro r : ordenados) s.escrever(r.matricula(), r.aluno().getNome(), r.nota());
+                    s.concluir();
+                }
+                return total;
+            }
+            if (!atual.isEmpty()) arquivosRun.add(gravarRun(dir, arquivosRun.size(), atual));
+            atual.clear();
+            runs = arquivosRun.size();
+
+            List<Path> nivel = arquivosRun;
+            while (nivel.size() > MAX_VIAS) { // passadas intermediárias, de MAX_VIAS em MAX_VIAS
+                List<Path> proximo = new ArrayList<>();
+                for (int i = 0; i < nivel.size(); i += MAX_VIAS) {
+                    List<Path> grupo = nivel.subList(i, Math.min(i + MAX_VIAS, nivel.size()));
+                    Path destino = dir.resolve("p" + passadas + "-" + proximo.size() + ".snap");
+                    try (Saida s = abrirSnapshot(destino)) {
+                        intercalar(grupo, s);
+                        s.concluir();
+                    }
+                    for (Path p : grupo) Files.deleteIfExists(p);
+                    proximo.add(destino);
+                }
+                nivel = proximo;
+                passadas++;
+            }
+            try (Saida s = abrirSaida(saida, total)) {
+                intercalar(nivel, s);
+                s.concluir();
+            }
+            passadas++;
+            return total;
+        } finally {
+            try (var arquivos = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) arquivos::iterator) Files.deleteIfExists(p);
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private Registro[] ordenarRun(List<Registro> registros) {
+        Registro[] a = registros.toArray(new Registro[0]);
+        Arrays.parallelSort(a, (x, y) -> comparator.compare(x.aluno(), y.aluno())); // estável
+        return a;
+    }
+
+    private Path gravarRun(Path dir, int indice, List<Registro> registros) throws IOException {
+        Registro[] ordenados = ordenarRun(registros);
+        Path arquivo = dir.resolve("run-" + indice + ".snap");
+        try (SnapshotAlunos.Escritor e = new SnapshotAlunos.Escritor(arquivo)) {
+            for (Registro r : ordenados) e.escrever(r.matricula(), r.aluno().getNome(), r.nota());
+            e.concluir();
+        }
+        return arquivo;
+    }
+
+    /** Posição de leitura em uma run: o registro atual e o índice da run (desempate estável). */
+    private static final class Cursor {
+        final SnapshotAlunos.Leitor leitor;
+        final int indice;
+        Aluno aluno;
+
+        Cursor(SnapshotAlunos.Leitor leitor, int indice) {
+            this.leitor = leitor;
+            this.indice = indice;
+        }
+
+        boolean avancar() throws IOException {
+            if (!leitor.proximo()) return false;
+            aluno = new Aluno(Integer.toString(leitor.matricula()), leitor.nome(), leitor.nota());
+            return true;
+        }
+    }
+
+    private void intercalar(List<Path> arquivos, Saida saida) throws IOException {
+        PriorityQueue<Cursor> fila = new PriorityQueue<>(arquivos.size(), (a, b) -> {
+            int c = comparator.compare(a.aluno, b.aluno);
+            return c != 0 ? c : Integer.compare(a.indice, b.indice);
+        });
+        List<Cursor> abertos = new ArrayList<>(arquivos.size());
+        try {
+            for (int i = 0; i < arquivos.size(); i++) {
+                Cursor c = new Cursor(new SnapshotAlunos.Leitor(arquivos.get(i), BUFFER_RUN), i);
+                abertos.add(c);
+                if (c.avancar()) fila.add(c);
+            }
+            while (!fila.isEmpty()) {
+                Cursor c = fila.poll();
+                saida.escrever(c.leitor.matricula(), c.leitor.nome(), c.leitor.nota());
+                if (c.avancar()) fila.add(c);
+            }
+        } finally {
+            for (Cursor c : abertos) c.leitor.close();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Saída: texto no formato do gerador ou snapshot
+    // ------------------------------------------------------------------
+
+    private interface Saida extends Closeable {
+        void escrever(int matricula, String nome, float nota) throws IOException;
+
+        /** Tudo escrito; o arquivo de saída só passa a existir aqui (fechar antes o descarta). */
+        void concluir() throws IOException;
+    }
+
+    static boolean ehSnapshot(Path arquivo) {
+        return arquivo.getFileName().toString().endsWith(".snap");
+    }
+
+    private static Saida abrirSaida(Path arquivo, long registros) throws IOException {
+        return ehSnapshot(arquivo) ? abrirSnapshot(arquivo) : new SaidaTexto(arquivo, registros);
+    }
+
+    private static Saida abrirSnapshot(Path arquivo) throws IOException {
+        SnapshotAlunos.Escritor e = new SnapshotAlunos.Escritor(arquivo);
+        return new Saida() {
+            @Override public void escrever(int matricula, String nome, float nota) throws IOException {
+                e.escrever(matricula, nome, nota);
+            }
+            @Override public void concluir() throws IOException { e.concluir(); }
+            @Override public void close() throws IOException { e.close(); }
+        };
+    }
+
+    /**
+     * Linhas {@code matrícula;nome;nota} com a nota em duas casas, como o gerador grava.
+     * Como o {@link SnapshotAlunos.Escritor}, escreve em {@code <arquivo>.tmp} e só o
+     * troca pelo destino em {@link #concluir()}: uma ordenação que falha no meio não deixa
+     * um arquivo cortado cujo cabeçalho promete todos os registros.
+     */
+    private static final class SaidaTexto implements Saida {
+        private final Path destino;
+        private final Path temporario;
+        private final FileChannel canal;
+        private final ByteBuffer buf = ByteBuffer.allocate(1 << 20);
+        private boolean concluido;
+
+        SaidaTexto(Path arquivo, long registros) throws IOException {
+            destino = arquivo;
+            temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+            canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buf.put((registros + "\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        @Override
+        public void escrever(int matricula, String nome, float nota) throws IOException {
+            byte[] bytesNome = nome.getBytes(StandardCharsets.UTF_8);
+            if (buf.remaining() < bytesNome.length + 48) descarregar();
+            inteiro(matricula);
+            buf.put((byte) ';').put(bytesNome).put((byte) ';');
+            long centesimos = Math.round(nota * 100.0);
+            if (centesimos < 0) {
+                buf.put((byte) '-');
+                centesimos = -centesimos;
+            }
+            inteiro(centesimos / 100);
+            int resto = (int) (centesimos % 100);
+            buf.put((byte) '.').put((byte) ('0' + resto / 10)).put((byte) ('0' + resto % 10)).put((byte) '\n');
+        }
+
+        private void inteiro(long v) {
+            if (v < 0) {
+                buf.put((byte) '-');
+                v = -v;
+            }
+            int ini = buf.position();
+            do {
+                buf.put((byte) ('0' + v % 10));
+                v /= 10;
+            } while (v != 0);
+            for (int i = ini, j = buf.position() - 1; i < j; i++, j--) { // dígitos saíram invertidos
+                byte t = buf.get(i);
+                buf.put(i, buf.get(j));
+                buf.put(j, t);
+            }
+        }
+
+        private void descarregar() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) canal.write(buf);
+            buf.clear();
+        }
+
+        @Override
+        public void concluir() throws IOException {
+            if (concluido) return;
+            descarregar();
+            canal.force(true);
+            canal.close();
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            concluido = true;
+        }
+
+        /** Sem {@link #concluir()} antes, descarta o que foi escrito. */
+        @Override
+        public void close() throws IOException {
+            if (concluido) return;
+            try {
+                canal.close();
+            } finally {
+                Files.deleteIfExists(temporario);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: OrdenacaoExterna <entrada> <saída> [matricula|matriculaNumerica|nome] [memóriaPorRunMB]");
+            System.exit(2);
+        }
+        Comparator<Aluno> comparator = switch (args.length > 2 ? args[2] : "matricula") {
+            case "matricula" -> AlunoComparators.porMatricula();
+            case "matriculaNumerica" -> AlunoComparators.porMatriculaNumerica();
+            case "nome" -> AlunoComparators.porNome();
+            default -> throw new IllegalArgumentException("Critério desconhecido: " + args[2]);
+        };
+        OrdenacaoExterna ordenacao = args.length > 3
+                ? new OrdenacaoExterna(comparator, Long.parseLong(args[3]) << 20, null)
+                : new OrdenacaoExterna(comparator);
+
+        long ini = System.nanoTime();
+        long registros = ordenacao.ordenar(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.printf("%d registros ordenados em %.1f s (%d runs, %d passadas de intercalação)%n",
+                registros, (System.nanoTime() - ini) / 1e9, ordenacao.getRuns(), ordenacao.getPassadas());
+    }
+}
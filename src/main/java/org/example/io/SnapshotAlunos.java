@@ -0,0 +1,274 @@
+package org.example.io;
+
+import org.example.Aluno;
+import org.example.GenericLinkedList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot binário de alunos, para não reinterpretar o arquivo texto a cada execução.
+ *
+ * Formato (big-endian):
+ * <pre>
+ * cabeçalho: int mágico ("ALNS") | int versão | int número de registros
+ * registro:  int matrícula | u16 tamanho do nome | nome em UTF-8 | float nota
+ * </pre>
+ *
+ * A matrícula do Aluno é String; no snapshot ela é gravada como int (a mesma
+ * representação do arquivo texto), então matrículas não numéricas são recusadas
+ * com NumberFormatException. A leitura é em fluxo, com um buffer de tamanho fixo.
+ *
+ * A gravação vai para um arquivo temporário ao lado do destino, que só o substitui
+ * (troca atômica) quando termina sem erro; um snapshot existente nunca fica pela metade.
+ */
+public final class SnapshotAlunos {
+    static final int MAGICO = 0x414C4E53; // "ALNS"
+    static final int VERSAO = 2; // 1: escrever(Aluno) gravava nota 0
+    static final int TAM_CABECALHO = 12;
+    static final int TAM_BUFFER = 1 << 20;
+    static final int MAX_NOME = 0xFFFF;
+
+    private SnapshotAlunos() {}
+
+    /** Grava todos os alunos, na ordem de iteração. Retorna quantos foram gravados. */
+    public static long salvar(Path arquivo, Iterable<? extends Aluno> alunos) throws IOException {
+        try (Escritor escritor = new Escritor(arquivo)) {
+            for (Aluno a : alunos) escritor.escrever(a);
+            escritor.concluir();
+            return escritor.registros();
+        }
+    }
+
+    /**
+     * Converte o arquivo texto de alunos em snapshot, na ordem do arquivo, em fluxo
+     * (sem montar a lista). Retorna quantos registros foram gravados.
+     */
+    public static long converter(Path texto, Path arquivo) throws IOException {
+        try (Escritor escritor = new Escritor(arquivo)) {
+            try {
+                LeitorAlunosMapeado.ler(texto, (matricula, nome, nota) -> {
+                    try {
+                        escritor.escrever(matricula, nome, nota);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            escritor.concluir();
+            return escritor.registros();
+        }
+    }
+
+    /** Número de registros declarado no cabeçalho. */
+    public static int lerCabecalho(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(TAM_CABECALHO);
+            return cabecalho(canal, buf);
+        }
+    }
+
+    /** Entrega cada registro ao consumidor, na ordem gravada; retorna quantos foram lidos. */
+    public static long ler(Path arquivo, ConsumidorRegistro consumidor) throws IOException {
+        try (Leitor leitor = new Leitor(arquivo)) {
+            while (leitor.proximo()) consumidor.registro(leitor.matricula(), leitor.nome(), leitor.nota());
+            return leitor.lidos();
+        }
+    }
+
+    /** Lê todos os alunos para uma lista já dimensionada pelo cabeçalho. */
+    public static List<Aluno> lerAlunos(Path arquivo) throws IOException {
+        List<Aluno> alunos = new ArrayList<>(Math.max(0, lerCabecalho(arquivo)));
+        lerAlunos(arquivo, alunos::add);
+        return alunos;
+    }
+
+    public static long lerAlunos(Path arquivo, Consumer<? super Aluno> destino) throws IOException {
+        return ler(arquivo, (matricula, nome, nota) -> destino.accept(new Aluno(Integer.toString(matricula), nome, nota)));
+    }
+
+    /**
+     * Restaura para a GenericLinkedList em uma única carga. O snapshot de uma lista
+     * ordenada já sai em ordem, então adicionarTodos apenas anexa (linear).
+     */
+    public static void lerAlunos(Path arquivo, GenericLinkedList<Aluno> destino) throws IOException {
+        destino.adicionarTodos(lerAlunos(arquivo));
+    }
+
+    private static int cabecalho(FileChannel canal, ByteBuffer buf) throws IOException {
+        buf.clear().limit(TAM_CABECALHO);
+        while (buf.hasRemaining()) {
+            if (canal.read(buf, buf.position()) < 0) throw new IOException("Snapshot sem cabeçalho");
+        }
+        buf.flip();
+        if (buf.getInt() != MAGICO) throw new IOException("Arquivo não é um snapshot de alunos");
+        int versao = buf.getInt();
+        if (versao != VERSAO) throw new IOException("Versão de snapshot não suportada: " + versao);
+        return buf.getInt();
+    }
+
+    /**
+     * Move o que resta no buffer para o início e lê do canal até ter ao menos
+     * {@code minimo} bytes disponíveis. Retorna false se o arquivo acabar antes.
+     */
+    private static boolean completar(FileChannel canal, ByteBuffer buf, int minimo) throws IOException {
+        buf.compact();
+        while (buf.position() < minimo) {
+            if (canal.read(buf) < 0) break;
+        }
+        buf.flip();
+        return buf.remaining() >= minimo;
+    }
+
+    /**
+     * Leitura em fluxo, um registro por vez ({@link #proximo()}), para quem precisa
+     * controlar o ritmo (ex.: intercalar vários snapshots). O buffer tem tamanho fixo;
+     * ao chegar ao fim, confere a contagem do cabeçalho.
+     */
+    public static final class Leitor implements Closeable {
+        private final FileChannel canal;
+        private final ByteBuffer buf;
+        private final int declarados;
+        private byte[] bytesNome = new byte[64];
+        private long lidos;
+        private int matricula;
+        private String nome;
+        private float nota;
+
+        public Leitor(Path arquivo) throws IOException {
+            this(arquivo, TAM_BUFFER);
+        }
+
+        /** @param tamanhoBuffer bytes do buffer de leitura (ao menos um registro de nome máximo) */
+        public Leitor(Path arquivo, int tamanhoBuffer) throws IOException {
+            if (tamanhoBuffer < MAX_NOME + 10) throw new IllegalArgumentException("Buffer pequeno demais: " + tamanhoBuffer);
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+            try {
+                this.buf = ByteBuffer.allocateDirect(tamanhoBuffer);
+                this.declarados = cabecalho(canal, buf);
+                canal.position(TAM_CABECALHO);
+                buf.clear().flip();
+            } catch (IOException | RuntimeException e) {
+                canal.close();
+                throw e;
+            }
+        }
+
+        /** Número de registros declarado no cabeçalho. */
+        public int declarados() { return declarados; }
+
+        /** Avança para o próximo registro; false no fim do arquivo. */
+        public boolean proximo() throws IOException {
+            if (buf.remaining() < 6 && !completar(canal, buf, 6)) {
+                if (lidos != declarados || buf.hasRemaining()) {
+                    throw new IOException("Snapshot truncado: " + lidos + " de " + declarados + " registros");
+                }
+                return false;
+            }
+            int tamanho = Short.toUnsignedInt(buf.getShort(buf.position() + 4));
+            if (buf.remaining() < tamanho + 10 && !completar(canal, buf, tamanho + 10)) {
+                throw new IOException("Snapshot truncado no registro " + (lidos + 1));
+            }
+            matricula = buf.getInt();
+            buf.getShort();
+            if (tamanho > bytesNome.length) bytesNome = new byte[Math.max(tamanho, bytesNome.length * 2)];
+            buf.get(bytesNome, 0, tamanho);
+            nota = buf.getFloat();
+            nome = new String(bytesNome, 0, tamanho, StandardCharsets.UTF_8);
+            lidos++;
+            return true;
+        }
+
+        public int matricula() { return matricula; }
+        public String nome() { return nome; }
+        public float nota() { return nota; }
+        public long lidos() { return lidos; }
+
+        @Override
+        public void close() throws IOException {
+            canal.close();
+        }
+    }
+
+    /**
+     * Gravação em fluxo, em um temporário ({@code <arquivo>.tmp}). O número de registros
+     * é desconhecido até o fim, então o cabeçalho é reescrito em {@link #concluir()}, que
+     * também leva o temporário ao disco e o troca pelo destino. Fechar sem concluir (ex.:
+     * por uma exceção no meio) descarta o temporário e deixa o destino como estava.
+     */
+    public static final class Escritor implements Closeable {
+        private final Path destino;
+        private final Path temporario;
+        private final FileChannel canal;
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(TAM_BUFFER);
+        private long registros;
+        private boolean concluido;
+
+        public Escritor(Path arquivo) throws IOException {
+            this.destino = arquivo;
+            this.temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+            this.canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buf.putInt(MAGICO).putInt(VERSAO).putInt(0);
+        }
+
+        public void escrever(Aluno aluno) throws IOException {
+            escrever(Integer.parseInt(aluno.getMatricula()), aluno.getNome(), aluno.getNota());
+        }
+
+        public void escrever(int matricula, String nome, float nota) throws IOException {
+            byte[] bytes = nome.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_NOME) {
+                throw new IllegalArgumentException("Nome maior que " + MAX_NOME + " bytes na matrícula " + matricula);
+            }
+            if (buf.remaining() < bytes.length + 10) descarregar();
+            buf.putInt(matricula).putShort((short) bytes.length).put(bytes).putFloat(nota);
+            registros++;
+        }
+
+        public long registros() { return registros; }
+
+        private void descarregar() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) canal.write(buf);
+            buf.clear();
+        }
+
+        /** Completa o cabeçalho, faz o fsync e troca atomicamente o destino pelo temporário. */
+        public void concluir() throws IOException {
+            if (concluido) return;
+            if (registros > Integer.MAX_VALUE) throw new IOException("Registros demais para o snapshot: " + registros);
+            descarregar();
+            ByteBuffer contagem = ByteBuffer.allocate(4).putInt((int) registros).flip();
+            while (contagem.hasRemaining()) canal.write(contagem, 8 + contagem.position());
+            canal.force(true);
+            canal.close();
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            concluido = true;
+        }
+
+        /** Sem {@link #concluir()} antes, descarta o que foi escrito. */
+        @Override
+        public void close() throws IOException {
+            if (concluido) return;
+            try {
+                canal.close();
+            } finally {
+                Files.deleteIfExists(temporario);
+            }
+        }
+    }
+}
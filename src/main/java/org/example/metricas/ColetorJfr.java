@@ -0,0 +1,36 @@
+package org.example.metricas;
+
+/**
+ * Emite um {@link EventoOperacaoLista} por operação, para análise no JDK Mission
+ * Control ou com {@code jfr print --events org.example.OperacaoLista}. Sem gravação
+ * JFR ativa (ex.: {@code -XX:StartFlightRecording}) ou com o evento desabilitado,
+ * {@code shouldCommit()} é falso e nada é gravado. A latência vai no campo
+ * {@code latencia}; para gravar só as operações lentas, use o limiar do construtor.
+ */
+public final class ColetorJfr implements ColetorMetricas {
+    private final long limiarNanos;
+
+    public ColetorJfr() {
+        this(0);
+    }
+
+    /** @param limiarNanos só gera eventos para operações com pelo menos essa latência */
+    public ColetorJfr(long limiarNanos) {
+        if (limiarNanos < 0) throw new IllegalArgumentException("Limiar negativo: " + limiarNanos);
+        this.limiarNanos = limiarNanos;
+    }
+
+    @Override
+    public void registrar(Medicao m) {
+        if (m.nanos() < limiarNanos) return;
+        EventoOperacaoLista e = new EventoOperacaoLista();
+        if (!e.shouldCommit()) return;
+        e.operacao = m.operacao().metodo();
+        e.latencia = m.nanos();
+        e.comparacoes = m.comparacoes();
+        e.nosPercorridos = m.nosPercorridos();
+        e.paradaAntecipada = m.paradaAntecipada();
+        e.tamanho = m.tamanho();
+        e.commit();
+    }
+}
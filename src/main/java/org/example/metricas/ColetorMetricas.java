@@ -0,0 +1,27 @@
+package org.example.metricas;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Destino das medições de uma {@link org.example.GenericLinkedList} instrumentada
+ * ({@code lista.setMetricas(coletor)}). É chamado na thread da operação, logo depois
+ * dela; deve ser rápido e não deve alterar a lista.
+ *
+ * Implementações prontas: {@link MetricasLista} (contadores e histogramas em memória)
+ * e {@link ColetorJfr} (eventos do Java Flight Recorder). Para enviar a outro sistema
+ * de monitoramento, basta implementar {@link #registrar}.
+ */
+@FunctionalInterface
+public interface ColetorMetricas {
+    void registrar(Medicao medicao);
+
+    /** Repassa cada medição a todos os coletores, na ordem dada. */
+    static ColetorMetricas todos(ColetorMetricas... coletores) {
+        List<ColetorMetricas> lista = List.of(coletores);
+        for (ColetorMetricas c : lista) Objects.requireNonNull(c, "Coletor não pode ser null");
+        return m -> {
+            for (ColetorMetricas c : lista) c.registrar(m);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** Evento JFR de uma operação da GenericLinkedList (ver {@link ColetorJfr}). */
+@Name("org.example.OperacaoLista")
+@Label("Operação da GenericLinkedList")
+@Category({"Aplicação", "GenericLinkedList"})
+@Description("Uma operação medida de uma GenericLinkedList instrumentada")
+public final class EventoOperacaoLista extends Event {
+    @Label("Operação")
+    String operacao;
+
+    @Label("Latência")
+    @Timespan(Timespan.NANOSECONDS)
+    long latencia;
+
+    @Label("Comparações")
+    long comparacoes;
+
+    @Label("Nós percorridos")
+    long nosPercorridos;
+
+    @Label("Parada antecipada")
+    boolean paradaAntecipada;
+
+    @Label("Tamanho da lista")
+    int tamanho;
+}
@@ -0,0 +1,14 @@
+package org.example.metricas;
+
+/**
+ * Medição de uma operação da lista.
+ *
+ * @param nanos             duração da operação
+ * @param comparacoes       chamadas ao comparator
+ * @param nosPercorridos    nós visitados (cada comparação visita um nó; no acesso por
+ *                          posição, os passos a partir de head, tail ou dedo)
+ * @param paradaAntecipada  busca/remoção em lista ordenada que parou antes do fim sem achar
+ * @param tamanho           tamanho da lista ao fim da operação
+ */
+public record Medicao(OperacaoLista operacao, long nanos, long comparacoes, long nosPercorridos,
+                      boolean paradaAntecipada, int tamanho) {}
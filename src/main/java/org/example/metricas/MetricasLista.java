@@ -0,0 +1,83 @@
+package org.example.metricas;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coletor em memória: por operação, quantidade, comparações, nós percorridos,
+ * paradas antecipadas e histograma de latência. Pode ser lido de outra thread
+ * (ex.: um endpoint de monitoramento) enquanto a lista é usada.
+ */
+public final class MetricasLista implements ColetorMetricas {
+
+    /** Totais de uma operação. */
+    public static final class PorOperacao {
+        private final LongAdder quantidade = new LongAdder();
+        private final LongAdder comparacoes = new LongAdder();
+        private final LongAdder nosPercorridos = new LongAdder();
+        private final LongAdder paradasAntecipadas = new LongAdder();
+        private final HistogramaLatencia latencia = new HistogramaLatencia();
+
+        public long quantidade() { return quantidade.sum(); }
+        public long comparacoes() { return comparacoes.sum(); }
+        public long nosPercorridos() { return nosPercorridos.sum(); }
+        public long paradasAntecipadas() { return paradasAntecipadas.sum(); }
+        /** Latências em nanossegundos. */
+        public HistogramaLatencia latencia() { return latencia; }
+
+        private void limpar() {
+            quantidade.reset();
+            comparacoes.reset();
+            nosPercorridos.reset();
+            paradasAntecipadas.reset();
+            latencia.limpar();
+        }
+    }
+
+    private final Map<OperacaoLista, PorOperacao> porOperacao = new EnumMap<>(OperacaoLista.class);
+
+    public MetricasLista() {
+        for (OperacaoLista op : OperacaoLista.values()) porOperacao.put(op, new PorOperacao());
+    }
+
+    @Override
+    public void registrar(Medicao m) {
+        PorOperacao p = porOperacao.get(m.operacao());
+        p.quantidade.increment();
+        p.comparacoes.add(m.comparacoes());
+        p.nosPercorridos.add(m.nosPercorridos());
+        if (m.paradaAntecipada()) p.paradasAntecipadas.increment();
+        p.latencia.registrar(m.nanos());
+    }
+
+    public PorOperacao de(OperacaoLista operacao) {
+        return porOperacao.get(operacao);
+    }
+
+    public void limpar() {
+        for (PorOperacao p : porOperacao.values()) p.limpar();
+    }
+
+    /** Uma linha por operação já executada, com médias e percentis de latência em µs. */
+    public String relatorio() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<OperacaoLista, PorOperacao> e : porOperacao.entrySet()) {
+            PorOperacao p = e.getValue();
+            long n = p.quantidade();
+            if (n == 0) continue;
+            HistogramaLatencia h = p.latencia();
+            sb.append(String.format("%-17s n=%d  comparações/op=%.1f  nós/op=%.1f  paradas antecipadas=%d  "
+                            + "latência µs: p50=%.2f p90=%.2f p99=%.2f máx=%.2f%n",
+                    e.getKey().metodo(), n, (double) p.comparacoes() / n, (double) p.nosPercorridos() / n,
+                    p.paradasAntecipadas(), h.percentil(50) / 1e3, h.percentil(90) / 1e3,
+                    h.percentil(99) / 1e3, h.maximo() / 1e3));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return relatorio();
+    }
+}
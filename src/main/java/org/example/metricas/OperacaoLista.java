@@ -0,0 +1,19 @@
+package org.example.metricas;
+
+/** Operações da {@link org.example.GenericLinkedList} que podem ser medidas. */
+public enum OperacaoLista {
+    ADICIONAR("adicionar"),
+    PESQUISAR("pesquisar"),
+    REMOVER("remover"),
+    OBTER_POR_INDICE("obterPorIndice"),
+    ADICIONAR_POSICAO("adicionarPosicao");
+
+    private final String metodo;
+
+    OperacaoLista(String metodo) {
+        this.metodo = metodo;
+    }
+
+    /** Nome do método correspondente na lista. */
+    public String metodo() { return metodo; }
+}
@@ -0,0 +1,153 @@
+package org.example.rede;
+
+import org.example.metricas.HistogramaLatencia;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gerador de carga para o {@link ServidorRoster}: abre muitas conexões (uma thread
+ * virtual cada), e cada uma envia janelas de {@code profundidade} pedidos sem esperar
+ * as respostas (pipelining), mistura de GET com ADD/DEL sobre matrículas aleatórias.
+ *
+ * A latência de um pedido vai do envio da janela até a chegada da sua resposta e é
+ * registrada em um {@link HistogramaLatencia}. Ao fim, imprime vazão, média, p50, p99,
+ * p99,9 e máximo. A medição começa quando todas as conexões estão abertas.
+ *
+ * Uso: {@code ClienteCarga [host] [porta] [conexões] [segundos] [profundidade] [%leituras] [matrículas]}
+ */
+public final class ClienteCarga {
+    private final InetSocketAddress endereco;
+    private final int conexoes;
+    private final long duracaoNanos;
+    private final int profundidade;
+    private final int percentualLeituras;
+    private final int matriculas;
+
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+    private final LongAdder pedidos = new LongAdder();
+    private final LongAdder erros = new LongAdder();
+    private final LongAdder falhasConexao = new LongAdder();
+
+    public ClienteCarga(InetSocketAddress endereco, int conexoes, long segundos, int profundidade,
+                        int percentualLeituras, int matriculas) {
+        if (conexoes < 1 || segundos < 1 || profundidade < 1 || matriculas < 1
+                || percentualLeituras < 0 || percentualLeituras > 100) {
+            throw new IllegalArgumentException("Parâmetros de carga inválidos");
+        }
+        this.endereco = endereco;
+        this.conexoes = conexoes;
+        this.duracaoNanos = TimeUnit.SECONDS.toNanos(segundos);
+        this.profundidade = profundidade;
+        this.percentualLeituras = percentualLeituras;
+        this.matriculas = matriculas;
+    }
+
+    /** Resultado de uma execução; latências em nanossegundos. */
+    public record Resultado(long pedidos, long erros, long falhasConexao, double segundos,
+                            double media, long p50, long p99, long p999, long maximo) {
+        public double vazao() { return pedidos / segundos; }
+
+        @Override
+        public String toString() {
+            return String.format("%d pedidos em %.1f s: %.0f ped/s | latência média %.0f µs, p50 %d µs, p99 %d µs,"
+                            + " p99,9 %d µs, máx %d µs | erros %d, falhas de conexão %d",
+                    pedidos, segundos, vazao(), media / 1e3, p50 / 1000, p99 / 1000, p999 / 1000, maximo / 1000,
+                    erros, falhasConexao);
+        }
+    }
+
+    public Resultado executar() throws InterruptedException {
+        CountDownLatch conectados = new CountDownLatch(conexoes);
+        CountDownLatch largada = new CountDownLatch(1);
+        long[] fim = new long[1];
+        try (ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < conexoes; i++) {
+                long semente = i;
+                exec.submit(() -> conexao(semente, conectados, largada, fim));
+            }
+            conectados.await();
+            long inicio = System.nanoTime();
+            fim[0] = inicio + duracaoNanos;
+            largada.countDown();
+            exec.shutdown();
+            exec.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            return new Resultado(pedidos.sum(), erros.sum(), falhasConexao.sum(), segundos, latencias.media(),
+                    latencias.percentil(50), latencias.percentil(99), latencias.percentil(99.9), latencias.maximo());
+        }
+    }
+
+    private void conexao(long semente, CountDownLatch conectados, CountDownLatch largada, long[] fim) {
+        Socket s = new Socket();
+        try (s) {
+            try {
+                s.setTcpNoDelay(true);
+                s.connect(endereco, 10_000);
+            } finally {
+                conectados.countDown();
+            }
+            BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), 1 << 13);
+            largada.await();
+            SplittableRandom rnd = new SplittableRandom(semente);
+            long limite = fim[0];
+            while (System.nanoTime() < limite) {
+                for (int i = 0; i < profundidade; i++) {
+                    int m = rnd.nextInt(matriculas);
+                    if (rnd.nextInt(100) < percentualLeituras) {
+                        out.write("GET " + m + "\n");
+                    } else if (rnd.nextBoolean()) {
+                        out.write("ADD " + m + " Aluno " + m + ";" + rnd.nextInt(101) / 10f + "\n");
+                    } else {
+                        out.write("DEL " + m + "\n");
+                    }
+                }
+                long envio = System.nanoTime();
+                out.flush();
+                for (int i = 0; i < profundidade; i++) {
+                    String r = in.readLine();
+                    if (r == null) throw new IOException("Servidor encerrou a conexão");
+                    latencias.registrar(System.nanoTime() - envio);
+                    if (r.startsWith("ERRO")) erros.increment();
+                }
+                pedidos.add(profundidade);
+            }
+            out.write("SAIR\n");
+            out.flush();
+            in.readLine();
+        } catch (IOException e) {
+            falhasConexao.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int porta = args.length > 1 ? Integer.parseInt(args[1]) : ServidorRoster.PORTA_PADRAO;
+        int conexoes = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int segundos = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int profundidade = args.length > 4 ? Integer.parseInt(args[4]) : 8;
+        int leituras = args.length > 5 ? Integer.parseInt(args[5]) : 90;
+        int matriculas = args.length > 6 ? Integer.parseInt(args[6]) : 100_000;
+        System.out.printf("%d conexões, %d s, profundidade %d, %d%% leituras, %d matrículas -> %s:%d%n",
+                conexoes, segundos, profundidade, leituras, matriculas, host, porta);
+        Resultado r = new ClienteCarga(new InetSocketAddress(host, porta), conexoes, segundos, profundidade,
+                leituras, matriculas).executar();
+        System.out.println(r);
+    }
+}
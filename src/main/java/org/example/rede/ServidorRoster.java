@@ -0,0 +1,364 @@
+package org.example.rede;
+
+import org.example.Aluno;
+import org.example.AlunoComparators;
+import org.example.ListaVersionada;
+import org.example.RosterDuravel;
+import org.example.io.LeitorAlunosMapeado;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serviço TCP local com as operações do menu de {@code Main2} sobre um único cadastro
+ * compartilhado por todas as conexões.
+ *
+ * Cada conexão é atendida por uma thread virtual. O cadastro é uma
+ * {@link ListaVersionada}: escritas se revezam em O(log n) e leituras (GET, LIST, TAM)
+ * nunca bloqueiam; LIST lê um snapshot, então a página devolvida é consistente mesmo
+ * com outras conexões escrevendo.
+ *
+ * Protocolo de linhas UTF-8. Um aluno é escrito {@code <matrícula> <nome>;<nota>}: a
+ * matrícula não tem espaços, o nome vai até o último ';' (ou até o fim da linha, se não
+ * houver nota, que então é 0) e a nota usa ponto decimal, como no arquivo do gerador:
+ * <pre>
+ *   ADD &lt;aluno&gt;                       -> OK
+ *   INS &lt;índice&gt; &lt;aluno&gt;              -> OK            (só cadastro não ordenado)
+ *   GET &lt;matrícula&gt;                   -> ACHOU &lt;aluno&gt; | NAO
+ *   DEL &lt;matrícula&gt;                   -> REMOVIDO &lt;aluno&gt; | NAO
+ *   LIST [início] [quantidade]          -> LISTA &lt;total&gt; &lt;k&gt; seguida de k linhas &lt;aluno&gt;
+ *   TAM                                 -> TAM &lt;n&gt;
+ *   LOTE &lt;n&gt;                          -> as n linhas seguintes são comandos; uma resposta para cada
+ *   SAIR                                -> BYE (e fecha a conexão)
+ * </pre>
+ * Qualquer falha responde {@code ERRO <mensagem>} e a conexão continua.
+ *
+ * Pedidos podem ser enviados em sequência sem esperar as respostas (pipelining): o
+ * servidor responde na ordem e só descarrega a saída quando não há mais pedidos já
+ * recebidos, então uma rajada de pedidos volta em poucos pacotes. Em um LOTE, ADDs
+ * seguidos entram no cadastro de uma vez ({@link ListaVersionada#adicionarTodos}).
+ *
+ * Com um {@link RosterDuravel}, as escritas passam por ele: cada resposta OK sai depois
+ * que a alteração está no log, e as conexões simultâneas dividem o mesmo fsync.
+ */
+public final class ServidorRoster implements AutoCloseable {
+    static final int PORTA_PADRAO = 7070;
+    static final int LIMITE_LIST = 10_000;
+    static final int LIMITE_LOTE = 100_000;
+
+    private final ListaVersionada<Aluno> cadastro;
+    private final RosterDuravel roster; // null => só em memória
+    private final ServerSocket servidor;
+    private final ExecutorService conexoes = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> abertas = ConcurrentHashMap.newKeySet();
+    private final LongAdder atendidos = new LongAdder();
+    private Thread aceitadora;
+
+    /**
+     * Abre a porta no endereço de loopback; 0 escolhe uma porta livre ({@link #getPorta()}).
+     */
+    public ServidorRoster(ListaVersionada<Aluno> cadastro, int porta) throws IOException {
+        this(cadastro, null, porta);
+    }
+
+    /**
+     * @param roster se não for null, roster aberto sobre {@code cadastro} por onde passam as escritas
+     */
+    public ServidorRoster(ListaVersionada<Aluno> cadastro, RosterDuravel roster, int porta) throws IOException {
+        this.cadastro = Objects.requireNonNull(cadastro, "Cadastro não pode ser null");
+        this.roster = roster;
+        this.servidor = new ServerSocket();
+        this.servidor.setReuseAddress(true);
+        this.servidor.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), porta), 4096);
+    }
+
+    public int getPorta() { return servidor.getLocalPort(); }
+    public ListaVersionada<Aluno> getCadastro() { return cadastro; }
+
+    /** Pedidos atendidos desde o início (contando os de dentro de lotes). */
+    public long getAtendidos() { return atendidos.sum(); }
+
+    /** Conexões abertas no momento. */
+    public int getConexoes() { return abertas.size(); }
+
+    /** Passa a aceitar conexões em segundo plano. */
+    public synchronized ServidorRoster iniciar() {
+        if (aceitadora != null) throw new IllegalStateException("Servidor já iniciado");
+        aceitadora = Thread.ofPlatform().name("servidor-roster-" + getPorta()).daemon(true).start(this::aceitar);
+        return this;
+    }
+
+    private void aceitar() {
+        while (!servidor.isClosed()) {
+            try {
+                Socket s = servidor.accept();
+                abertas.add(s);
+                conexoes.submit(() -> atender(s));
+            } catch (IOException e) {
+                if (!servidor.isClosed()) System.err.println("Falha ao aceitar conexão: " + e.getMessage());
+            }
+        }
+    }
+
+    private void atender(Socket s) {
+        try (s;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), 1 << 14)) {
+            s.setTcpNoDelay(true);
+            String linha;
+            while ((linha = in.readLine()) != null) {
+                if (!processar(linha, in, out)) {
+                    out.flush();
+                    break;
+                }
+                if (!in.ready()) out.flush(); // pipelining: responde a rajada de uma vez
+            }
+        } catch (SocketException e) {
+            // conexão encerrada pelo cliente ou por close()
+        } catch (IOException e) {
+            System.err.println("Erro na conexão " + s.getRemoteSocketAddress() + ": " + e.getMessage());
+        } finally {
+            abertas.remove(s);
+        }
+    }
+
+    /** Executa um pedido e escreve a resposta; false se a conexão deve ser encerrada. */
+    private boolean processar(String linha, BufferedReader in, Writer out) throws IOException {
+        String[] p = linha.strip().split(" ", 2);
+        String cmd = p[0].toUpperCase();
+        String resto = p.length > 1 ? p[1].strip() : "";
+        if (cmd.equals("LOTE")) {
+            lote(resto, in, out);
+            return true;
+        }
+        atendidos.increment();
+        if (cmd.equals("SAIR")) {
+            out.write("BYE\n");
+            return false;
+        }
+        try {
+            executar(cmd, resto, out);
+        } catch (RuntimeException e) {
+            out.write("ERRO " + e.getMessage() + "\n");
+        }
+        return true;
+    }
+
+    private void executar(String cmd, String resto, Writer out) throws IOException {
+        switch (cmd) {
+            case "ADD" -> {
+                Aluno a = aluno(resto);
+                escrever(() -> {
+                    if (roster != null) roster.adicionar(a); else cadastro.adicionar(a);
+                });
+                out.write("OK\n");
+            }
+            case "INS" -> {
+                String[] p = resto.split(" ", 2);
+                int indice = Integer.parseInt(p[0]);
+                if (p.length < 2) throw new IllegalArgumentException("uso: INS <índice> <matrícula> <nome>[;<nota>]");
+                Aluno a = aluno(p[1]);
+                escrever(() -> {
+                    if (roster != null) roster.adicionarPosicao(indice, a); else cadastro.adicionarPosicao(indice, a);
+                });
+                out.write("OK\n");
+            }
+            case "GET" -> responder("ACHOU ", cadastro.pesquisar(chave(resto)), out);
+            case "DEL" -> responder("REMOVIDO ", remover(resto), out);
+            case "LIST" -> listar(resto, out);
+            case "TAM" -> out.write("TAM " + cadastro.tamanho() + "\n");
+            case "" -> throw new IllegalArgumentException("comando vazio");
+            default -> throw new IllegalArgumentException("comando desconhecido: " + cmd);
+        }
+    }
+
+    /** Lê os n comandos do lote; sequências de ADD válidos viram uma única inserção em lote. */
+    private void lote(String resto, BufferedReader in, Writer out) throws IOException {
+        int n;
+        try {
+            n = Integer.parseInt(resto);
+            if (n < 0 || n > LIMITE_LOTE) throw new NumberFormatException();
+        } catch (NumberFormatException e) {
+            out.write("ERRO tamanho de lote inválido (0.." + LIMITE_LOTE + "): " + resto + "\n");
+            return;
+        }
+        List<Aluno> adds = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            String linha = in.readLine();
+            if (linha == null) throw new SocketException("conexão encerrada no meio de um lote");
+            String[] p = linha.strip().split(" ", 2);
+            if (p[0].equalsIgnoreCase("ADD")) {
+                try {
+                    adds.add(aluno(p.length > 1 ? p[1].strip() : ""));
+                    atendidos.increment();
+                    continue;
+                } catch (RuntimeException e) {
+                    // inválido: responde ERRO na sua vez, depois dos ADDs anteriores
+                }
+            }
+            descarregar(adds, out);
+            if (p[0].equalsIgnoreCase("LOTE") || p[0].equalsIgnoreCase("SAIR")) {
+                out.write("ERRO " + p[0] + " não é permitido dentro de um lote\n");
+            } else {
+                processar(linha, in, out);
+            }
+        }
+        descarregar(adds, out);
+    }
+
+    private void descarregar(List<Aluno> adds, Writer out) throws IOException {
+        if (adds.isEmpty()) return;
+        try {
+            escrever(() -> {
+                if (roster != null) roster.adicionarTodos(adds); else cadastro.adicionarTodos(adds);
+            });
+        } catch (UncheckedIOException e) {
+            for (int i = 0; i < adds.size(); i++) out.write("ERRO " + e.getCause().getMessage() + "\n");
+            adds.clear();
+            return;
+        }
+        for (int i = 0; i < adds.size(); i++) out.write("OK\n");
+        adds.clear();
+    }
+
+    private void listar(String resto, Writer out) throws IOException {
+        String[] p = resto.isEmpty() ? new String[0] : resto.split(" +");
+        int inicio = p.length > 0 ? Integer.parseInt(p[0]) : 0;
+        int quantidade = p.length > 1 ? Integer.parseInt(p[1]) : 100;
+        if (inicio < 0 || quantidade < 0 || quantidade > LIMITE_LIST) {
+            throw new IllegalArgumentException("intervalo inválido (quantidade até " + LIMITE_LIST + ")");
+        }
+        ListaVersionada.Versao<Aluno> v = cadastro.snapshot();
+        int fim = (int) Math.min(v.tamanho(), (long) inicio + quantidade);
+        int k = Math.max(0, fim - inicio);
+        out.write("LISTA " + v.tamanho() + " " + k + "\n");
+        for (int i = inicio; i < fim; i++) {
+            out.write(formatar(v.obterPorIndice(i)) + "\n");
+        }
+    }
+
+    private Aluno remover(String matricula) {
+        Aluno chave = chave(matricula);
+        if (roster == null) return cadastro.remover(chave);
+        try {
+            return roster.remover(matricula);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface Escrita {
+        void executar() throws IOException;
+    }
+
+    /** Falha do log vira {@link UncheckedIOException}: responde ERRO e a conexão segue. */
+    private static void escrever(Escrita e) {
+        try {
+            e.executar();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void responder(String prefixo, Aluno a, Writer out) throws IOException {
+        out.write(a == null ? "NAO\n" : prefixo + formatar(a) + "\n");
+    }
+
+    private static String formatar(Aluno a) {
+        return a.getMatricula() + " " + a.getNome() + ";" + a.getNota();
+    }
+
+    /** {@code <matrícula> <nome>[;<nota>]}; sem nota, 0. */
+    private static Aluno aluno(String texto) {
+        String[] p = texto.split(" ", 2);
+        if (p[0].isEmpty() || p.length < 2 || p[1].isBlank()) {
+            throw new IllegalArgumentException("uso: <matrícula> <nome>[;<nota>]");
+        }
+        String nome = p[1];
+        float nota = 0f;
+        int sep = nome.lastIndexOf(';');
+        if (sep >= 0) {
+            try {
+                nota = Float.parseFloat(nome.substring(sep + 1).strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("nota inválida: " + nome.substring(sep + 1).strip());
+            }
+            if (!Float.isFinite(nota)) throw new IllegalArgumentException("nota inválida: " + nota);
+            nome = nome.substring(0, sep);
+        }
+        if (nome.isBlank()) throw new IllegalArgumentException("uso: <matrícula> <nome>[;<nota>]");
+        return new Aluno(p[0], nome.strip(), nota);
+    }
+
+    /** Aluno sentinela para buscar/remover pela matrícula (o comparator só olha a matrícula). */
+    private static Aluno chave(String matricula) {
+        if (matricula.isEmpty() || matricula.indexOf(' ') >= 0) throw new IllegalArgumentException("matrícula inválida");
+        return new Aluno(matricula, "");
+    }
+
+    /** Para de aceitar conexões e fecha as abertas. */
+    @Override
+    public void close() throws IOException {
+        servidor.close();
+        for (Socket s : abertas) {
+            try {
+                s.close();
+            } catch (IOException ignorada) {
+                // já fechando
+            }
+        }
+        conexoes.shutdown();
+    }
+
+    /**
+     * Uso: {@code ServidorRoster [porta] [ordenada|naoOrdenada] [arquivoAlunos|-] [dirDados]}.
+     * Com {@code dirDados}, o cadastro é restaurado de lá e as escritas vão para o log.
+     * O arquivo (formato do gerador), se informado, é carregado antes de abrir a porta
+     * quando o cadastro restaurado está vazio.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int porta = args.length > 0 ? Integer.parseInt(args[0]) : PORTA_PADRAO;
+        boolean ordenada = args.length < 2 || !args[1].equalsIgnoreCase("naoOrdenada");
+        ListaVersionada<Aluno> cadastro = new ListaVersionada<>(ordenada, AlunoComparators.porMatricula());
+        RosterDuravel roster = args.length > 3 ? RosterDuravel.abrir(Path.of(args[3]), cadastro) : null;
+        if (roster != null) System.out.println(cadastro.tamanho() + " alunos restaurados de " + args[3]);
+        if (args.length > 2 && !args[2].equals("-") && cadastro.tamanho() == 0) {
+            long t0 = System.nanoTime();
+            List<Aluno> alunos = LeitorAlunosMapeado.lerAlunos(Path.of(args[2]));
+            if (roster != null) roster.adicionarTodos(alunos); else cadastro.adicionarTodos(alunos);
+            System.out.printf("%d alunos carregados em %d ms%n", cadastro.tamanho(), (System.nanoTime() - t0) / 1_000_000);
+        }
+        ServidorRoster s = new ServidorRoster(cadastro, roster, porta).iniciar();
+        System.out.println("Cadastro " + (ordenada ? "ORDENADO" : "NÃO ORDENADO") + " em "
+                + InetAddress.getLoopbackAddress().getHostAddress() + ":" + s.getPorta() + " (Ctrl+C encerra)");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                s.close();
+                if (roster != null) roster.close();
+            } catch (IOException e) {
+                System.err.println("Falha ao encerrar: " + e.getMessage());
+            }
+        }));
+        s.aceitadora.join();
+    }
+}
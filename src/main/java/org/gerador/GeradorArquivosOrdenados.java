@@ -3,8 +3,19 @@ package org.gerador;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Locale;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class GeradorArquivosOrdenados{
     private static final int NUM_REGISTROS = 2000000; // Quantidade de registros a serem gerados
@@ -37,8 +48,44 @@ public class GeradorArquivosOrdenados{
             "Orsini", "Paz", "Quevedo", "Rangel", "Souza", "Tavares", "Uchoa", "Vilela", "Werneck", "Xisto"
     };
 
+    // Modo paralelo: cada fatia tem tamanho fixo (a saída não depende do número de threads)
+    private static final int REGISTROS_POR_FATIA = 1 << 16;
+    private static final byte[][] PRENOMES_UTF8 = utf8(PRENOMES);
+    private static final byte[][] SOBRENOMES_UTF8 = utf8(SOBRENOMES);
+    // matrícula (até 10 dígitos) + ';' + nome + ';' + nota (até "10.00") + '\n'
+    private static final int MAX_BYTES_REGISTRO =
+            10 + 1 + maiorTamanho(PRENOMES_UTF8) + 1 + maiorTamanho(SOBRENOMES_UTF8) + 1 + 5 + 1;
+
+    public enum Ordem { ORDENADO, REVERSO, EMBARALHADO }
+
+    /**
+     * Sem argumentos: gera o arquivo padrão como sempre. Com argumentos:
+     * {@code <registros> <arquivo> [ordenado|reverso|embaralhado] [semente] [threads]}.
+     */
     public static void main(String[] args) {
-        gerarArquivo();
+        if (args.length == 0) {
+            gerarArquivo();
+            return;
+        }
+        try {
+            if (args.length < 2) throw new IllegalArgumentException("informe o arquivo de saída");
+            int registros = Integer.parseInt(args[0]);
+            Path arquivo = Path.of(args[1]);
+            Ordem ordem = args.length > 2 ? Ordem.valueOf(args[2].toUpperCase(Locale.ROOT)) : Ordem.ORDENADO;
+            long semente = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+            int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+            long ini = System.nanoTime();
+            gerarArquivoParalelo(registros, arquivo, ordem, semente, threads);
+            System.out.printf("Arquivo gerado com sucesso: %s (%d registros, %.3f s)%n",
+                    arquivo, registros, (System.nanoTime() - ini) / 1e9);
+        } catch (IllegalArgumentException e) { // inclui NumberFormatException
+            System.err.println("Argumento inválido: " + e.getMessage());
+            System.err.println("Uso: GeradorArquivosOrdenados <registros> <arquivo> "
+                    + "[ordenado|reverso|embaralhado] [semente] [threads]");
+        } catch (IOException e) {
+            System.err.println("Erro ao escrever no arquivo: " + e.getMessage());
+        }
     }
 
     private static void gerarArquivo() {
@@ -67,4 +114,168 @@ public class GeradorArquivosOrdenados{
         String sobrenome = SOBRENOMES[random.nextInt(SOBRENOMES.length)];
         return primeiroNome + " " + sobrenome;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gera o arquivo no mesmo formato de {@link #gerarArquivo()} (cabeçalho com o número
+     * de registros e linhas {@code matrícula;nome;nota}), repartindo os registros em
+     * fatias de tamanho fixo entre {@code threads} workers.
+     *
+     * Cada fatia recebe seu próprio {@link SplittableRandom}, obtido por split da
+     * semente na ordem das fatias, e formata as linhas à mão direto em bytes; as
+     * fatias são gravadas em ordem por um FileChannel, com no máximo {@code 2 * threads}
+     * em memória. Mesma semente, mesma ordem e mesmo número de registros produzem
+     * o mesmo arquivo, com qualquer número de threads.
+     */
+    public static void gerarArquivoParalelo(int registros, Path arquivo, Ordem ordem, long semente, int threads)
+            throws IOException {
+        if (registros < 0) throw new IllegalArgumentException("Número de registros negativo: " + registros);
+        if (threads < 1) throw new IllegalArgumentException("Número de threads inválido: " + threads);
+
+        SplittableRandom raiz = new SplittableRandom(semente);
+        Permutacao permutacao = ordem == Ordem.EMBARALHADO ? new Permutacao(registros, raiz.split()) : null;
+        int fatias = (int) (((long) registros + REGISTROS_POR_FATIA - 1) / REGISTROS_POR_FATIA);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            escreverTudo(canal, ByteBuffer.wrap((registros + "\n").getBytes(StandardCharsets.US_ASCII)));
+
+            ArrayDeque<Future<ByteBuffer>> pendentes = new ArrayDeque<>();
+            int proxima = 0;
+            while (proxima < fatias || !pendentes.isEmpty()) {
+                while (proxima < fatias && pendentes.size() < 2 * threads) {
+                    long de = (long) proxima * REGISTROS_POR_FATIA;
+                    int ate = (int) Math.min(registros, de + REGISTROS_POR_FATIA);
+                    SplittableRandom rnd = raiz.split();
+                    pendentes.add(executor.submit(() -> gerarFatia((int) de, ate, registros, ordem, permutacao, rnd)));
+                    proxima++;
+                }
+                escreverTudo(canal, aguardar(pendentes.poll()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Linhas das posições [de, ate) do arquivo, já codificadas. */
+    private static ByteBuffer gerarFatia(int de, int ate, int registros, Ordem ordem,
+                                         Permutacao permutacao, SplittableRandom rnd) {
+        byte[] buf = new byte[(ate - de) * MAX_BYTES_REGISTRO];
+        int p = 0;
+        for (int i = de; i < ate; i++) {
+            int matricula = switch (ordem) {
+                case ORDENADO -> i + 1;
+                case REVERSO -> registros - i;
+                case EMBARALHADO -> permutacao.aplicar(i) + 1;
+            };
+            p = escreverInteiro(buf, p, matricula);
+            buf[p++] = ';';
+            byte[] prenome = PRENOMES_UTF8[rnd.nextInt(PRENOMES_UTF8.length)];
+            System.arraycopy(prenome, 0, buf, p, prenome.length);
+            p += prenome.length;
+            buf[p++] = ' ';
+            byte[] sobrenome = SOBRENOMES_UTF8[rnd.nextInt(SOBRENOMES_UTF8.length)];
+            System.arraycopy(sobrenome, 0, buf, p, sobrenome.length);
+            p += sobrenome.length;
+            buf[p++] = ';';
+            p = escreverNota(buf, p, rnd.nextInt(1001)); // centésimos: 0.00 a 10.00
+            buf[p++] = '\n';
+        }
+        return ByteBuffer.wrap(buf, 0, p);
+    }
+
+    private static int escreverInteiro(byte[] buf, int p, int valor) {
+        int digitos = 1;
+        for (int v = valor; v >= 10; v /= 10) digitos++;
+        for (int i = p + digitos - 1; i >= p; i--) {
+            buf[i] = (byte) ('0' + valor % 10);
+            valor /= 10;
+        }
+        return p + digitos;
+    }
+
+    /** Nota com duas casas fixas a partir dos centésimos (ex.: 705 -> "7.05"). */
+    private static int escreverNota(byte[] buf, int p, int centesimos) {
+        p = escreverInteiro(buf, p, centesimos / 100);
+        int resto = centesimos % 100;
+        buf[p++] = '.';
+        buf[p++] = (byte) ('0' + resto / 10);
+        buf[p++] = (byte) ('0' + resto % 10);
+        return p;
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) canal.write(buf);
+    }
+
+    private static ByteBuffer aguardar(Future<ByteBuffer> fatia) throws IOException {
+        try {
+            return fatia.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Geração interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Falha ao gerar uma fatia", e.getCause());
+        }
+    }
+
+    private static byte[][] utf8(String[] textos) {
+        byte[][] r = new byte[textos.length][];
+        for (int i = 0; i < textos.length; i++) r[i] = textos[i].getBytes(StandardCharsets.UTF_8);
+        return r;
+    }
+
+    private static int maiorTamanho(byte[][] textos) {
+        int maior = 0;
+        for (byte[] t : textos) maior = Math.max(maior, t.length);
+        return maior;
+    }
+
+    /**
+     * Permutação pseudoaleatória de [0, n) sem tabela: rede de Feistel sobre o menor
+     * domínio 2^(2k) >= n, com <i>cycle walking</i> para valores fora do intervalo
+     * (menos de 4 passos em média). Permite embaralhar em paralelo sem materializar
+     * um vetor de n posições.
+     */
+    private static final class Permutacao {
+        private static final int RODADAS = 4;
+        private final int n;
+        private final int bitsMetade;
+        private final long mascara;
+        private final long[] chaves = new long[RODADAS];
+
+        Permutacao(int n, SplittableRandom rnd) {
+            this.n = n;
+            int bits = 2;
+            while ((1L << bits) < n) bits += 2;
+            this.bitsMetade = bits / 2;
+            this.mascara = (1L << bitsMetade) - 1;
+            for (int i = 0; i < RODADAS; i++) chaves[i] = rnd.nextLong();
+        }
+
+        int aplicar(int i) {
+            long x = i;
+            do {
+                x = rodadas(x);
+            } while (x >= n);
+            return (int) x;
+        }
+
+        private long rodadas(long x) {
+            long esq = x >>> bitsMetade, dir = x & mascara;
+            for (long chave : chaves) {
+                long novo = esq ^ (misturar(dir ^ chave) & mascara);
+                esq = dir;
+                dir = novo;
+            }
+            return (esq << bitsMetade) | dir;
+        }
+
+        /** Finalizador do SplitMix64. */
+        private static long misturar(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}